@@ -22,7 +22,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatMigrator;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -57,8 +60,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.isWriteBehindEnabled());
 
         model = initModelManager(storage, userPrefs);
 
@@ -69,6 +72,46 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, journaling changes to it
+     * if {@code config} enables the journal, or storing it in the binary format if {@code config} enables that.
+     * The data file is migrated to the chosen format if the other format's data file is newer.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath);
+
+        if (config.isBinaryStorageEnabled()) {
+            if (config.isJournalEnabled()) {
+                logger.warning("Journaling is not supported for binary storage and will be disabled");
+            }
+            AddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+            // Read through the journal, which also reads a json data file without one, so no change is left behind
+            migrateAddressBook(new JournalAddressBookStorage(addressBookFilePath, config.isAtomicSaveEnabled()),
+                    binaryStorage);
+            return binaryStorage;
+        }
+
+        AddressBookStorage jsonStorage;
+        if (config.isJournalEnabled()) {
+            logger.info("Journaling changes to data file " + addressBookFilePath);
+            jsonStorage = new JournalAddressBookStorage(addressBookFilePath, config.isAtomicSaveEnabled());
+        } else {
+            jsonStorage = new JsonAddressBookStorage(addressBookFilePath, config.isAtomicSaveEnabled());
+        }
+        migrateAddressBook(new BinaryAddressBookStorage(binaryFilePath), jsonStorage);
+        return jsonStorage;
+    }
+
+    private void migrateAddressBook(AddressBookStorage source, AddressBookStorage target) {
+        try {
+            AddressBookFormatMigrator.migrateIfNewer(source, target);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file " + source.getAddressBookFilePath() + " could not be migrated to "
+                    + target.getAddressBookFilePath() + ": " + e);
+        }
+    }
+
     /**
      * Shows birthday reminders when the app starts.
      */
@@ -198,5 +241,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -17,6 +17,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private boolean writeBehindEnabled = false;
+    private boolean atomicSaveEnabled = true;
+    private boolean binaryStorageEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if address book changes should be appended to a journal instead of rewriting the data file.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Returns true if the data file should be saved on a background thread instead of after every command.
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    /**
+     * Returns true if the data file should be replaced atomically on every save, keeping the previous one as a backup.
+     */
+    public boolean isAtomicSaveEnabled() {
+        return atomicSaveEnabled;
+    }
+
+    public void setAtomicSaveEnabled(boolean atomicSaveEnabled) {
+        this.atomicSaveEnabled = atomicSaveEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be stored in the compact binary format instead of json.
+     */
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +95,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && writeBehindEnabled == otherConfig.writeBehindEnabled
+                && atomicSaveEnabled == otherConfig.atomicSaveEnabled
+                && binaryStorageEnabled == otherConfig.binaryStorageEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, writeBehindEnabled, atomicSaveEnabled,
+                binaryStorageEnabled);
     }
 
     @Override
@@ -60,6 +113,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("writeBehindEnabled", writeBehindEnabled)
+                .add("atomicSaveEnabled", atomicSaveEnabled)
+                .add("binaryStorageEnabled", binaryStorageEnabled)
                 .toString();
     }
 
@@ -0,0 +1,237 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable set of {@code Index}es, such as those given by the user as "1-3,5,10-20".
+ *
+ * The indexes are stored as sorted, disjoint intervals, so a selection like "1-50000" takes two ints instead of
+ * one {@code Index} per value. Iteration is in ascending order and creates each {@code Index} on demand.
+ */
+public class IndexSelection implements Iterable<Index> {
+
+    private static final IndexSelection EMPTY = new IndexSelection(new int[0], new int[0]);
+
+    /** Zero-based first and last index of each interval, in ascending order with gaps in between. */
+    private final int[] starts;
+    private final int[] ends;
+
+    private IndexSelection(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Returns a selection of the given indexes. Duplicates are ignored.
+     */
+    public static IndexSelection of(Index... indexes) {
+        return of(Arrays.asList(indexes));
+    }
+
+    /**
+     * Returns a selection of the given indexes. Duplicates are ignored.
+     */
+    public static IndexSelection of(Collection<Index> indexes) {
+        requireNonNull(indexes);
+        Builder builder = new Builder();
+        indexes.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Returns a selection of every index from {@code first} to {@code last}, inclusive.
+     */
+    public static IndexSelection range(Index first, Index last) {
+        return new Builder().addRange(first, last).build();
+    }
+
+    public int getIntervalCount() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the first index of the interval at {@code interval}, counting intervals from 0 in ascending order.
+     */
+    public Index getIntervalStart(int interval) {
+        return Index.fromZeroBased(starts[interval]);
+    }
+
+    /**
+     * Returns the last index of the interval at {@code interval}, counting intervals from 0 in ascending order.
+     */
+    public Index getIntervalEnd(int interval) {
+        return Index.fromZeroBased(ends[interval]);
+    }
+
+    /**
+     * Returns the number of indexes in this selection.
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < starts.length; i++) {
+            size += (long) ends[i] - starts[i] + 1;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * Returns true if {@code index} is in this selection.
+     */
+    public boolean contains(Index index) {
+        requireNonNull(index);
+        int value = index.getZeroBased();
+        int interval = Arrays.binarySearch(starts, value);
+        if (interval >= 0) {
+            return true;
+        }
+        interval = -interval - 2; // The last interval starting before value
+        return interval >= 0 && value <= ends[interval];
+    }
+
+    /**
+     * Returns the smallest index in this selection that is not in a list of {@code listSize} items, if any.
+     * Only the end of each interval is compared, so this takes one check per interval.
+     */
+    public Optional<Index> getFirstOutOfBounds(int listSize) {
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] >= listSize) {
+                return Optional.of(Index.fromZeroBased(Math.max(starts[i], listSize)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Iterator<Index> iterator() {
+        return new Iterator<>() {
+            private int interval = 0;
+            private int next = (starts.length == 0) ? 0 : starts[0];
+
+            @Override
+            public boolean hasNext() {
+                return interval < starts.length;
+            }
+
+            @Override
+            public Index next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Index index = Index.fromZeroBased(next);
+                if (next == ends[interval]) {
+                    interval++;
+                    next = (interval < starts.length) ? starts[interval] : 0;
+                } else {
+                    next++;
+                }
+                return index;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.equals(starts, otherSelection.starts) && Arrays.equals(ends, otherSelection.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner intervals = new StringJoiner(",");
+        for (int i = 0; i < starts.length; i++) {
+            intervals.add((starts[i] == ends[i])
+                    ? String.valueOf(starts[i] + 1)
+                    : (starts[i] + 1) + "-" + (ends[i] + 1));
+        }
+        return new ToStringBuilder(this).add("oneBasedIndexes", intervals).toString();
+    }
+
+    /**
+     * Collects indexes and ranges of indexes in any order into an {@code IndexSelection}.
+     */
+    public static class Builder {
+        /** Each interval packed as its start in the high half and its end in the low half, so they sort by start. */
+        private long[] intervals = new long[4];
+        private int count = 0;
+
+        /**
+         * Adds {@code index} to the selection.
+         */
+        public Builder add(Index index) {
+            requireNonNull(index);
+            return addRange(index, index);
+        }
+
+        /**
+         * Adds every index from {@code first} to {@code last}, inclusive, to the selection.
+         *
+         * @throws IllegalArgumentException if {@code first} is after {@code last}.
+         */
+        public Builder addRange(Index first, Index last) {
+            requireNonNull(first);
+            requireNonNull(last);
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new IllegalArgumentException("Start of an index range must not be after its end.");
+            }
+            if (count == intervals.length) {
+                intervals = Arrays.copyOf(intervals, count * 2);
+            }
+            intervals[count++] = ((long) first.getZeroBased() << Integer.SIZE) | last.getZeroBased();
+            return this;
+        }
+
+        /**
+         * Returns the selection of everything added so far, with overlapping and adjacent ranges merged.
+         */
+        public IndexSelection build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            long[] sorted = Arrays.copyOf(intervals, count);
+            Arrays.sort(sorted);
+            int[] starts = new int[count];
+            int[] ends = new int[count];
+            int merged = 0;
+            for (long interval : sorted) {
+                int start = (int) (interval >>> Integer.SIZE);
+                int end = (int) interval;
+                if (merged > 0 && (long) start <= (long) ends[merged - 1] + 1) {
+                    ends[merged - 1] = Math.max(ends[merged - 1], end);
+                } else {
+                    starts[merged] = start;
+                    ends[merged] = end;
+                    merged++;
+                }
+            }
+            return new IndexSelection(Arrays.copyOf(starts, merged), Arrays.copyOf(ends, merged));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -72,6 +73,18 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Moves the complete {@code tempFile} into place as {@code file}, keeping the file it replaces as
+     * {@code backupFile}. Both moves are atomic, so {@code file} is never seen half-written; if the process stops
+     * between them, {@code file} is missing and {@code backupFile} holds its previous contents.
+     */
+    public static void replaceWithBackup(Path tempFile, Path file, Path backupFile) throws IOException {
+        if (Files.exists(file)) {
+            Files.move(file, backupFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
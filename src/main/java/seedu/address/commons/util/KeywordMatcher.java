@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+/**
+ * Matches words against a list of keywords, ignoring case: a word matches if it contains any of the keywords.
+ * This is what {@link StringUtil#containsWordIgnoreCase} checks of each word of a sentence, but the keywords are
+ * validated and case-folded once when the matcher is built. Matching then only compares characters, without
+ * regular expressions or new strings, so the words matched must already be folded with {@link #fold(String)}.
+ */
+public class KeywordMatcher {
+
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a matcher of {@code keywords}.
+     *
+     * @param keywords cannot be null; each keyword cannot be empty and must be a single word.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            String foldedKeyword = fold(keywords.get(i).trim());
+            checkArgument(!foldedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(foldedKeyword.chars().noneMatch(Character::isWhitespace),
+                    "Word parameter should be a single word");
+            foldedKeywords[i] = foldedKeyword;
+        }
+    }
+
+    /**
+     * Returns {@code text} folded for case-insensitive matching.
+     */
+    public static String fold(String text) {
+        return text.toLowerCase();
+    }
+
+    /**
+     * Returns true if {@code foldedWord} contains any of the keywords.
+     */
+    public boolean matches(String foldedWord) {
+        for (String foldedKeyword : foldedKeywords) {
+            if (foldedWord.contains(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code foldedWords} contains any of the keywords.
+     */
+    public boolean matchesAny(List<String> foldedWords) {
+        for (String foldedWord : foldedWords) {
+            if (matches(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches words that sound alike any of a list of keywords, by comparing their Soundex codes.
+ * The Soundex code of a word is its first letter followed by three digits for the groups of consonants that
+ * follow, so that names heard over the phone, such as "Smyth" for "Smith", get the same code.
+ * Accents are dropped and characters other than the letters a to z are skipped.
+ * As with {@link KeywordMatcher}, the words matched must already be folded with {@link KeywordMatcher#fold(String)}.
+ */
+public class PhoneticMatcher {
+
+    private static final int CODE_LENGTH = 4;
+
+    /** Soundex digit of each letter from a to z; '0' for vowels, which separate consonants, and '-' for h and w. */
+    private static final String LETTER_DIGITS = "0123012-02245501262301-202";
+
+    private final Set<String> keywordCodes;
+
+    /**
+     * Creates a matcher of {@code keywords}.
+     *
+     * @param keywords cannot be null; each keyword cannot be empty and must be a single word.
+     */
+    public PhoneticMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> codes = new HashSet<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = KeywordMatcher.fold(keyword.trim());
+            checkArgument(!foldedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(foldedKeyword.chars().noneMatch(Character::isWhitespace),
+                    "Word parameter should be a single word");
+            String code = encode(foldedKeyword);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        keywordCodes = Collections.unmodifiableSet(codes);
+    }
+
+    /**
+     * Returns the Soundex code of {@code foldedWord}, or an empty string if it has no letter from a to z.
+     */
+    public static String encode(String foldedWord) {
+        String letters = Normalizer.normalize(foldedWord, Normalizer.Form.NFD);
+        StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < letters.length() && code.length() < CODE_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            if (letter < 'a' || letter > 'z') {
+                continue;
+            }
+            char digit = LETTER_DIGITS.charAt(letter - 'a');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != '-' && digit != lastDigit) {
+                code.append(digit);
+            }
+            // h and w do not separate consonants with the same digit, unlike vowels
+            if (digit != '-') {
+                lastDigit = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns the distinct Soundex codes of {@code foldedWords}, skipping words without one.
+     */
+    public static List<String> encodeAll(List<String> foldedWords) {
+        List<String> codes = new ArrayList<>();
+        for (String foldedWord : foldedWords) {
+            String code = encode(foldedWord);
+            if (!code.isEmpty() && !codes.contains(code)) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Returns the Soundex codes of the keywords that have one.
+     */
+    public Set<String> getKeywordCodes() {
+        return keywordCodes;
+    }
+
+    /**
+     * Returns true if {@code foldedWord} sounds alike any of the keywords.
+     */
+    public boolean matches(String foldedWord) {
+        return keywordCodes.contains(encode(foldedWord));
+    }
+
+    /**
+     * Returns true if any of {@code codes}, Soundex codes of words, is the code of any of the keywords.
+     */
+    public boolean matchesAnyCode(List<String> codes) {
+        for (String code : codes) {
+            if (keywordCodes.contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches words that are spelt similarly to any of a list of keywords, ignoring case.
+ * Words are compared by their trigrams, the runs of three characters in the word padded with two spaces in front
+ * and one behind, so that misspellings such as "Ngyuen" for "Nguyen" still share most of their trigrams.
+ * The similarity of two words is the Dice coefficient of their trigrams: twice the number of shared trigrams over
+ * the total number of trigrams of both, from 0 for nothing in common to 1 for the same trigrams.
+ * As with {@link KeywordMatcher}, the words matched must already be folded with {@link KeywordMatcher#fold(String)}.
+ */
+public class TrigramMatcher {
+
+    /** Similarity from which two words are considered spelt alike. */
+    public static final double SIMILARITY_THRESHOLD = 0.4;
+
+    private final List<Set<String>> keywordTrigrams;
+
+    /**
+     * Creates a matcher of {@code keywords}.
+     *
+     * @param keywords cannot be null; each keyword cannot be empty and must be a single word.
+     */
+    public TrigramMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        List<Set<String>> trigrams = new ArrayList<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = KeywordMatcher.fold(keyword.trim());
+            checkArgument(!foldedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(foldedKeyword.chars().noneMatch(Character::isWhitespace),
+                    "Word parameter should be a single word");
+            trigrams.add(trigramsOf(foldedKeyword));
+        }
+        keywordTrigrams = Collections.unmodifiableList(trigrams);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code foldedWord}.
+     */
+    public static Set<String> trigramsOf(String foldedWord) {
+        String padded = "  " + foldedWord + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; start + 3 <= padded.length(); start++) {
+            trigrams.add(padded.substring(start, start + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the similarity of two words with {@code firstCount} and {@code secondCount} distinct trigrams, of
+     * which {@code sharedCount} are shared.
+     */
+    public static double similarity(int sharedCount, int firstCount, int secondCount) {
+        return 2.0 * sharedCount / (firstCount + secondCount);
+    }
+
+    /**
+     * Returns true if words with the given trigram counts are similar enough to be considered spelt alike.
+     */
+    public static boolean isSimilar(int sharedCount, int firstCount, int secondCount) {
+        return similarity(sharedCount, firstCount, secondCount) >= SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * Returns the trigrams of each keyword, in the order the keywords were given.
+     */
+    public List<Set<String>> getKeywordTrigrams() {
+        return keywordTrigrams;
+    }
+
+    /**
+     * Returns the highest similarity of {@code foldedWord} to any of the keywords.
+     */
+    public double score(String foldedWord) {
+        Set<String> wordTrigrams = trigramsOf(foldedWord);
+        double bestScore = 0;
+        for (Set<String> trigrams : keywordTrigrams) {
+            int sharedCount = 0;
+            for (String trigram : trigrams) {
+                if (wordTrigrams.contains(trigram)) {
+                    sharedCount++;
+                }
+            }
+            bestScore = Math.max(bestScore, similarity(sharedCount, trigrams.size(), wordTrigrams.size()));
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns the highest similarity of any of {@code foldedWords} to any of the keywords.
+     */
+    public double scoreAny(List<String> foldedWords) {
+        double bestScore = 0;
+        for (String foldedWord : foldedWords) {
+            bestScore = Math.max(bestScore, score(foldedWord));
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns true if {@code foldedWord} is spelt alike any of the keywords.
+     */
+    public boolean matches(String foldedWord) {
+        return score(foldedWord) >= SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * Returns true if any of {@code foldedWords} is spelt alike any of the keywords.
+     */
+    public boolean matchesAny(List<String> foldedWords) {
+        return scoreAny(foldedWords) >= SIMILARITY_THRESHOLD;
+    }
+}
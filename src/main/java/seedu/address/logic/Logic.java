@@ -23,6 +23,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the number of bytes written to the data file while saving after the last executed command.
+     * Commands that do not change any data write nothing. In write-behind mode, a save is counted
+     * against the command that is executing when the save finishes.
+     */
+    long getLastCommandBytesWritten();
+
     /**
      * Returns the AddressBook.
      *
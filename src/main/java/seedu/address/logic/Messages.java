@@ -26,6 +26,9 @@ public class Messages {
     public static final String MESSAGE_POSSIBLE_MATCHES_FOUND =
             "Possible matches found below.\nType INDEX and ENTER to select the person"
                     + "\nor ESC to cancel and return to main window:";
+    public static final String MESSAGE_SOUND_ALIKE_MATCHES_FOUND =
+            "Names that sound alike found below.\nType INDEX and ENTER to select the person"
+                    + "\nor ESC to cancel and return to main window:";
     public static final String MESSAGE_DELETE_CONFIRMATION =
             "Are you sure you want to delete this contact (%s)?\nType INDEX and ENTER to confirm this deletion"
                     + "\nor ESC to cancel and return to main window.";
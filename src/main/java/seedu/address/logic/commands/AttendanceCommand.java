@@ -2,27 +2,35 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.InvalidDateException;
+import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Class;
 import seedu.address.model.person.Person;
 
 /**
- * Marks the attendance of the specified person in the address book.
+ * Marks the attendance of the specified person in the address book, or of every student in the specified classes,
+ * on one date or over a range of dates.
  * Only applicable to contact with "student" tag.
  */
 public class AttendanceCommand extends Command {
@@ -37,24 +45,73 @@ public class AttendanceCommand extends Command {
             + PREFIX_STATUS + "STATUS (present/late/sick/absent/remove) "
             + "[" + PREFIX_DATE + "DATE] (dd-MM-yyyy) "
             + "(Must be within six years of the student's birth date and cannot be later than today's date.)\n"
+            + "Alternatively, mark a range of dates: " + PREFIX_DATE + "START_DATE " + PREFIX_DATE + "END_DATE "
+            + "[" + PREFIX_SKIP + "weekends] [" + PREFIX_SKIP + "holidays]\n"
+            + "Alternatively, mark every student in the specified CLASS(es): "
+            + PREFIX_CLASS + "CLASS [" + PREFIX_CLASS + "CLASS]... instead of INDEX(es)\n"
             + "Example: " + COMMAND_WORD + " 1-5,10,13 "
             + PREFIX_STATUS + "present "
-            + PREFIX_DATE + "29-12-2025";
+            + PREFIX_DATE + "29-12-2025\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K1B "
+            + PREFIX_STATUS + "present\n"
+            + "Example: " + COMMAND_WORD + " 1-5 " + PREFIX_STATUS + "sick " + PREFIX_DATE + "01-12-2025 "
+            + PREFIX_DATE + "05-12-2025 " + PREFIX_SKIP + "weekends";
 
     public static final String MESSAGE_SUCCESS = "Modified %d out of %d contacts as %s on %s.";
+    public static final String MESSAGE_CLASS_SUCCESS = "Marked class attendance as %1$s on %2$s:";
+    public static final String MESSAGE_CLASS_SUMMARY =
+            "%1$s: modified %2$d out of %3$d students (%4$d unchanged, %5$d with invalid date)";
+    public static final String MESSAGE_CLASS_NO_STUDENTS = "%1$s: no students";
+    public static final String MESSAGE_NO_STUDENTS_IN_CLASSES = "No students in the class(es) specified.";
+    public static final String MESSAGE_DATE_RANGE = "%1$s to %2$s (%3$d days)";
+    public static final String MESSAGE_NO_DATES_IN_RANGE = "No dates left to mark in the date range after skipping "
+            + "weekends and holidays.";
 
     private static final Logger logger = LogsCenter.getLogger(AttendanceCommand.class);
 
     /**
      * Represents the status that can be used for marking attendance.
+     * Each status that can be recorded has a code from 0 to 3, which is how it is kept in two bits in memory and
+     * on disk, so the codes must not change.
      */
     public enum AttendanceStatus {
-        PRESENT, LATE, SICK, ABSENT, REMOVE
+        PRESENT(0), LATE(1), SICK(2), ABSENT(3), REMOVE(-1);
+
+        private static final AttendanceStatus[] RECORDED_BY_CODE = {PRESENT, LATE, SICK, ABSENT};
+
+        private final int code;
+
+        AttendanceStatus(int code) {
+            this.code = code;
+        }
+
+        /**
+         * Returns the code from 0 to 3 of this status.
+         *
+         * @throws IllegalArgumentException if this status cannot be recorded.
+         */
+        public int getCode() {
+            if (code < 0) {
+                throw new IllegalArgumentException("Attendance status cannot be recorded: " + this);
+            }
+            return code;
+        }
+
+        /**
+         * Returns the status with the code {@code code}, which must be from 0 to 3.
+         */
+        public static AttendanceStatus fromCode(int code) {
+            return RECORDED_BY_CODE[code];
+        }
     }
 
-    private final Set<Index> indexes;
+    private final IndexSelection indexes;
+    private final List<Class> studentClasses;
     private final LocalDate date;
+    private final LocalDate endDate;
     private final AttendanceStatus status;
+    private final boolean skipWeekends;
+    private final boolean skipHolidays;
 
     private final StringBuilder studentsModified = new StringBuilder();
     private final StringBuilder contactsNotModified = new StringBuilder();
@@ -67,20 +124,78 @@ public class AttendanceCommand extends Command {
      * @param date When does this marking apply.
      * @param status What is the status of the attendance.
      */
-    public AttendanceCommand(Set<Index> indexes, LocalDate date, AttendanceStatus status) {
-        requireNonNull(indexes);
+    public AttendanceCommand(IndexSelection indexes, LocalDate date, AttendanceStatus status) {
+        this(requireNonNull(indexes), null, date, null, status, false, false);
+    }
+
+    /**
+     * Creates a AttendanceCommand to mark attendance of the
+     * specified indexes on every date from {@code startDate} to {@code endDate}.
+     *
+     * @param indexes Which index(es) to be mark.
+     * @param startDate The first date this marking applies to.
+     * @param endDate The last date this marking applies to.
+     * @param status What is the status of the attendance.
+     * @param skipWeekends Whether Saturdays and Sundays in the range are left unmarked.
+     * @param skipHolidays Whether the holidays in the user preferences are left unmarked.
+     */
+    public AttendanceCommand(IndexSelection indexes, LocalDate startDate, LocalDate endDate,
+            AttendanceStatus status, boolean skipWeekends, boolean skipHolidays) {
+        this(requireNonNull(indexes), null, startDate, requireNonNull(endDate), status, skipWeekends, skipHolidays);
+    }
+
+    /**
+     * Creates a AttendanceCommand to mark attendance of every
+     * student in the specified classes.
+     *
+     * @param studentClasses Which class(es) to be mark.
+     * @param date When does this marking apply.
+     * @param status What is the status of the attendance.
+     */
+    public AttendanceCommand(List<Class> studentClasses, LocalDate date, AttendanceStatus status) {
+        this(null, requireNonNull(studentClasses), date, null, status, false, false);
+    }
+
+    /**
+     * Creates a AttendanceCommand to mark attendance of every
+     * student in the specified classes on every date from {@code startDate} to {@code endDate}.
+     *
+     * @param studentClasses Which class(es) to be mark.
+     * @param startDate The first date this marking applies to.
+     * @param endDate The last date this marking applies to.
+     * @param status What is the status of the attendance.
+     * @param skipWeekends Whether Saturdays and Sundays in the range are left unmarked.
+     * @param skipHolidays Whether the holidays in the user preferences are left unmarked.
+     */
+    public AttendanceCommand(List<Class> studentClasses, LocalDate startDate, LocalDate endDate,
+            AttendanceStatus status, boolean skipWeekends, boolean skipHolidays) {
+        this(null, requireNonNull(studentClasses), startDate, requireNonNull(endDate), status, skipWeekends,
+                skipHolidays);
+    }
+
+    private AttendanceCommand(IndexSelection indexes, List<Class> studentClasses, LocalDate date, LocalDate endDate,
+            AttendanceStatus status, boolean skipWeekends, boolean skipHolidays) {
         requireNonNull(date);
         requireNonNull(status);
+        assert endDate == null || !date.isAfter(endDate);
 
-        this.indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        this.indexes.addAll(indexes);
+        this.indexes = (indexes == null) ? IndexSelection.of() : indexes;
+        this.studentClasses = (studentClasses == null) ? null : List.copyOf(new LinkedHashSet<>(studentClasses));
         this.date = date;
+        this.endDate = endDate;
         this.status = status;
+        this.skipWeekends = skipWeekends;
+        this.skipHolidays = skipHolidays;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        List<LocalDate> dates = getDates(model);
+        if (studentClasses != null) {
+            return new CommandResult(markClasses(model, dates));
+        }
+
         List<Person> lastShownList = model.getFilteredPersonList();
 
         // Early termination when list is empty
@@ -88,9 +203,59 @@ public class AttendanceCommand extends Command {
             throw new CommandException("No contacts available to mark attendance.");
         }
 
-        int totalModified = markAll(lastShownList);
+        int totalModified = markAll(model, lastShownList, dates);
+
+        return getCommandResult(totalModified, dates);
+    }
+
+    /**
+     * Returns the dates to mark, in order. Only the range needs the model, for its holidays.
+     *
+     * @throws CommandException If every date in the range is skipped.
+     */
+    private List<LocalDate> getDates(Model model) throws CommandException {
+        if (endDate == null) {
+            return List.of(date);
+        }
+
+        Set<LocalDate> holidays = skipHolidays ? model.getUserPrefs().getHolidays() : Set.of();
+        List<LocalDate> dates = date.datesUntil(endDate.plusDays(1))
+                .filter(day -> !skipWeekends || day.getDayOfWeek().compareTo(DayOfWeek.SATURDAY) < 0)
+                .filter(day -> !holidays.contains(day))
+                .toList();
+        if (dates.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_DATES_IN_RANGE);
+        }
+        return dates;
+    }
+
+    /**
+     * Formats the marked dates for the result message: the date itself, or the range with how many days were marked.
+     */
+    private String formatDates(List<LocalDate> dates) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        if (endDate == null) {
+            return date.format(formatter);
+        }
+        return String.format(MESSAGE_DATE_RANGE, date.format(formatter), endDate.format(formatter), dates.size());
+    }
 
-        return getCommandResult(totalModified);
+    /**
+     * Marks {@code student} on {@code dates}. A range is written to the student's attendance as one batch.
+     *
+     * @return true if the attendance of {@code student} changed.
+     */
+    private boolean markStudent(Model model, Person student, List<LocalDate> dates)
+            throws InvalidDateException, NoAttendanceRecordException {
+        if (endDate == null) {
+            return status.equals(AttendanceStatus.REMOVE)
+                    ? model.unmarkAttendance(student, date)
+                    : model.markAttendance(student, date, status);
+        }
+        int changedCount = status.equals(AttendanceStatus.REMOVE)
+                ? model.unmarkAttendance(student, dates)
+                : model.markAttendance(student, dates, status);
+        return changedCount > 0;
     }
 
     /**
@@ -98,12 +263,13 @@ public class AttendanceCommand extends Command {
      * display the details of both marked and unmarked contacts.
      *
      * @param totalModified The number of students successfully marked.
+     * @param dates The dates marked.
      * @return A CommandResult object.
      * @throws CommandException If an error occurs during command execution.
      */
-    private CommandResult getCommandResult(int totalModified) throws CommandException {
+    private CommandResult getCommandResult(int totalModified, List<LocalDate> dates) throws CommandException {
         logger.info("Successfully modified attendance for " + totalModified + " students");
-        String dateMsg = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        String dateMsg = formatDates(dates);
 
         if (!studentsModified.isEmpty()) {
             studentsModified.insert(0, "\n\nStudents with updated attendance:");
@@ -125,56 +291,109 @@ public class AttendanceCommand extends Command {
      * @return The total number of marked contacts that is a student.
      * @throws CommandException If an error occurs during command execution.
      */
-    private int markAll(List<Person> lastShownList) throws CommandException {
+    private int markAll(Model model, List<Person> lastShownList, List<LocalDate> dates) throws CommandException {
         int totalModified = 0;
 
-        for (Index i : indexes) {
-            int zeroBasedIndex = i.getZeroBased();
+        // Indexes are sorted, so checking the end of each interval finds any invalid index
+        Optional<Index> invalidIndex = indexes.getFirstOutOfBounds(lastShownList.size());
+        if (invalidIndex.isPresent()) {
+            logger.warning("Invalid index provided: " + invalidIndex.get().getOneBased());
+            throw new CommandException(String.format("%s: %d",
+                    MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, invalidIndex.get().getOneBased()));
+        }
+
+        for (int interval = 0; interval < indexes.getIntervalCount(); interval++) {
+            int intervalEnd = indexes.getIntervalEnd(interval).getOneBased();
+            for (int i = indexes.getIntervalStart(interval).getOneBased(); i <= intervalEnd; i++) {
+                if (markIndex(model, i, lastShownList.get(i - 1), dates)) {
+                    totalModified++;
+                }
+            }
+        }
+        return totalModified;
+    }
+
+    /**
+     * Marks the contact at the one-based index {@code i} if it is a student, noting the outcome for the result.
+     *
+     * @return true if the attendance of the contact changed.
+     */
+    private boolean markIndex(Model model, int i, Person personToEdit, List<LocalDate> dates)
+            throws CommandException {
+        if (!personToEdit.isStudent()) {
+            logger.warning("Contact is not a student: " + i);
+            contactsNotModified.append("\n").append(i).append(". ").append(personToEdit.getName())
+                    .append(" [Not a student]");
+            return false;
+        }
 
-            // Check for invalid index (negative or out of range)
-            if (zeroBasedIndex < 0 || zeroBasedIndex >= lastShownList.size()) {
-                logger.warning("Invalid index provided: " + i.getOneBased());
-                throw new CommandException(String.format("%s: %d",
-                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, i.getOneBased()));
+        logger.fine("Marking attendance for " + personToEdit.getName() + " on " + dates.size()
+                + " date(s) from " + date + " as " + status);
+        try {
+            if (!markStudent(model, personToEdit, dates)) {
+                logger.warning("Duplicate attendance: " + i);
+                contactsNotModified.append("\n").append(i).append(". ")
+                        .append(personToEdit.getName()).append(" [Status unchanged - same as previous record]");
+                return false;
             }
 
-            Person personToEdit = lastShownList.get(zeroBasedIndex);
+            studentsModified.append("\n").append(i).append(". ").append(personToEdit.getName());
+            return true;
+        } catch (InvalidDateException e) {
+            logger.warning("Invalid date for attendance: " + i);
+            contactsNotModified.append("\n").append(i).append(". ").append(personToEdit.getName())
+                    .append(" [Date not within six years of birthdate or is a future date]");
+            return false;
+        }
+    }
 
-            // Ensure person is a student
-            if (personToEdit.isStudent()) {
-                logger.fine("Marking attendance for " + personToEdit.getName() + " on " + date + " as " + status);
+    /**
+     * Marks every student in the specified classes, looked up from the model's class index
+     * rather than the displayed list, and summarises the outcome in one line per class.
+     *
+     * @param dates The dates to mark.
+     * @return The summary of the marked classes.
+     * @throws CommandException If none of the classes has students.
+     */
+    private String markClasses(Model model, List<LocalDate> dates) throws CommandException {
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_CLASS_SUCCESS, status, formatDates(dates)));
+        int totalStudents = 0;
+
+        for (Class studentClass : studentClasses) {
+            Set<Person> students = model.getStudentsInClass(studentClass);
+            if (students.isEmpty()) {
+                summary.append("\n").append(String.format(MESSAGE_CLASS_NO_STUDENTS, studentClass));
+                continue;
+            }
 
+            int modified = 0;
+            int unchanged = 0;
+            int invalidDate = 0;
+            for (Person student : students) {
                 try {
-                    boolean isDuplicate = false;
-                    if (status.equals(AttendanceStatus.REMOVE)) {
-                        personToEdit.unmarkAttendance(date);
+                    if (markStudent(model, student, dates)) {
+                        modified++;
                     } else {
-                        isDuplicate = !personToEdit.markAttendance(date, status);
-                    }
-
-                    if (isDuplicate) {
-                        logger.warning("Duplicate attendance: " + i.getOneBased());
-                        contactsNotModified.append("\n").append(i.getOneBased()).append(". ")
-                                .append(personToEdit.getName()).append(" [Status unchanged - same as previous record]");
-                        continue;
+                        unchanged++;
                     }
-
-                    studentsModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName());
-                    totalModified++;
                 } catch (InvalidDateException e) {
-                    logger.warning("Invalid date for attendance: " + i.getOneBased());
-                    contactsNotModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName())
-                            .append(" [Date not within six years of birthdate or is a future date]");
+                    invalidDate++;
+                } catch (NoAttendanceRecordException e) {
+                    unchanged++;
                 }
-            } else {
-                logger.warning("Contact is not a student: " + i.getOneBased());
-                contactsNotModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName())
-                        .append(" [Not a student]");
             }
+
+            totalStudents += students.size();
+            logger.info("Modified attendance for " + modified + " students in " + studentClass);
+            summary.append("\n").append(String.format(MESSAGE_CLASS_SUMMARY, studentClass, modified,
+                    students.size(), unchanged, invalidDate));
         }
-        return totalModified;
-    }
 
+        if (totalStudents == 0) {
+            throw new CommandException(MESSAGE_NO_STUDENTS_IN_CLASSES);
+        }
+        return summary.toString();
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -188,17 +407,13 @@ public class AttendanceCommand extends Command {
 
         AttendanceCommand otherAttendanceCommand = (AttendanceCommand) other;
 
-        // Sort indexes before comparison
-        List<Index> thisSortedIndexes = this.indexes.stream()
-                .sorted((a, b) -> Integer.compare(a.getZeroBased(), b.getZeroBased()))
-                .toList();
-        List<Index> otherSortedIndexes = otherAttendanceCommand.indexes.stream()
-                .sorted((a, b) -> Integer.compare(a.getZeroBased(), b.getZeroBased()))
-                .toList();
-
-        return thisSortedIndexes.equals(otherSortedIndexes)
+        return indexes.equals(otherAttendanceCommand.indexes)
+                && Objects.equals(studentClasses, otherAttendanceCommand.studentClasses)
                 && date.equals(otherAttendanceCommand.date)
-                && status.equals(otherAttendanceCommand.status);
+                && Objects.equals(endDate, otherAttendanceCommand.endDate)
+                && status.equals(otherAttendanceCommand.status)
+                && skipWeekends == otherAttendanceCommand.skipWeekends
+                && skipHolidays == otherAttendanceCommand.skipHolidays;
     }
 
 
@@ -206,8 +421,12 @@ public class AttendanceCommand extends Command {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("indexes", indexes)
+                .add("classes", studentClasses)
                 .add("date", date)
+                .add("endDate", endDate)
                 .add("status", status)
+                .add("skipWeekends", skipWeekends)
+                .add("skipHolidays", skipHolidays)
                 .toString();
     }
 }
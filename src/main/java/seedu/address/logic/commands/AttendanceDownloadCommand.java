@@ -2,30 +2,43 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassDailyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassMonthlyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateStudentsMonthlyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.getStudents;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.getStudentsByClass;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.writeAttendanceMatrix;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.writeDailyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.writeMonthlyAttendanceReport;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TERM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 import static seedu.address.storage.AttendanceCsvStorage.saveAttendanceCsv;
+import static seedu.address.storage.AttendanceCsvStorage.saveAttendanceCsvs;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.SortedSet;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceStatistics;
 import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AttendanceCsvStorage;
+import seedu.address.storage.AttendanceCsvStorage.CsvContent;
+import seedu.address.storage.AttendanceCsvStorage.CsvSaveResult;
 
 /**
  * Downloads attendance report of a specific student or class
@@ -43,24 +56,33 @@ public class AttendanceDownloadCommand extends Command {
             + "1. " + COMMAND_WORD + " INDEX(es) [m/MONTH]\n"
             + "2. " + COMMAND_WORD + " c/CLASS(es) [d/DATE]\n"
             + "3. " + COMMAND_WORD + " c/CLASS(es) [m/MONTH]\n"
+            + "4. " + COMMAND_WORD + " INDEX(es) or c/CLASS(es) y/YEAR [term/TERM]\n"
             + "Examples:\n"
             + "• " + COMMAND_WORD + " 1-5,10,13 " + PREFIX_MONTH + "12-2025\n"
             + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_DATE + "12-12-2025\n"
-            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025";
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_YEAR + "2025 " + PREFIX_TERM + "1";
 
     public static final String MESSAGE_SUCCESS = "Attendance report(s) downloaded.";
+    public static final String MESSAGE_FILE_SAVED = "%1$s: saved";
+    public static final String MESSAGE_FILE_FAILED = "%1$s: failed (%2$s)";
+    public static final String MESSAGE_CLASS_NO_STUDENTS = "%1$s: no students, skipped";
+
+    public static final int TERMS_PER_YEAR = 12 / AttendanceStatistics.MONTHS_PER_TERM;
 
     public static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
     public static final YearMonth EARLIEST_MONTH = YearMonth.of(1900, 1);
 
     private static final Logger logger = LogsCenter.getLogger(AttendanceCommand.class);
 
-    private final SortedSet<Index> indexes;
+    private final IndexSelection indexes;
     private final List<Class> studentClass;
     private final LocalDate date;
     private final YearMonth month;
     private final Boolean userProvideDate;
     private final Boolean userProvideMonth;
+    private final Year year;
+    private final Integer term;
 
     /**
      * Creates a AttendanceDownloadCommand to download
@@ -71,10 +93,28 @@ public class AttendanceDownloadCommand extends Command {
      * @param date Which date to download attendance report.
      * @param month Which month to download attendance report.
      */
-    public AttendanceDownloadCommand(SortedSet<Index> indexes, List<Class> studentClass, LocalDate date,
+    public AttendanceDownloadCommand(IndexSelection indexes, List<Class> studentClass, LocalDate date,
                                      YearMonth month, Boolean userProvideDate, Boolean userProvideMonth) {
+        this(indexes, studentClass, date, month, userProvideDate, userProvideMonth, null, null);
+    }
+
+    /**
+     * Creates a AttendanceDownloadCommand to download
+     * attendance report, or a whole year or term of attendance in one file if {@code year} is given.
+     *
+     * @param indexes Which index(es) to download.
+     * @param studentClass Which class(es) to download.
+     * @param date Which date to download attendance report.
+     * @param month Which month to download attendance report.
+     * @param year Which year to download attendance for, or null.
+     * @param term Which term of {@code year} to download attendance for, or null for the whole year.
+     */
+    public AttendanceDownloadCommand(IndexSelection indexes, List<Class> studentClass, LocalDate date,
+                                     YearMonth month, Boolean userProvideDate, Boolean userProvideMonth,
+                                     Year year, Integer term) {
         requireNonNull(date);
         requireNonNull(month);
+        assert term == null || year != null;
 
         this.indexes = indexes;
         this.studentClass = studentClass;
@@ -82,6 +122,8 @@ public class AttendanceDownloadCommand extends Command {
         this.month = month;
         this.userProvideDate = userProvideDate;
         this.userProvideMonth = userProvideMonth;
+        this.year = year;
+        this.term = term;
     }
 
     @Override
@@ -92,7 +134,9 @@ public class AttendanceDownloadCommand extends Command {
             throw new CommandException("No contacts available to download attendance.");
         }
 
-        if (userProvideDate) {
+        if (year != null) {
+            checkValidYear();
+        } else if (userProvideDate) {
             checkValidDate();
         } else if (userProvideMonth) {
             checkValidMonth();
@@ -101,15 +145,13 @@ public class AttendanceDownloadCommand extends Command {
         try {
             String filePath = "";
 
-            if (indexes != null) {
+            if (year != null) {
+                filePath = downloadAttendanceMatrix(model);
+            } else if (indexes != null) {
                 filePath = downloadStudentMonthlyAttendanceReport(model);
             } else {
                 // Class attendance report default to monthly
-                if (userProvideDate) {
-                    filePath = downloadClassDailyAttendanceReport(model, filePath);
-                } else {
-                    filePath = downloadClassMonthlyAttendanceReport(model, filePath);
-                }
+                filePath = downloadClassAttendanceReports(model);
             }
 
             return new CommandResult(MESSAGE_SUCCESS + " Saved to:\n" + filePath);
@@ -137,6 +179,20 @@ public class AttendanceDownloadCommand extends Command {
         }
     }
 
+    /**
+     * Checks whether user's year, or the start of user's term, is within 01-1900 to current month.
+     *
+     * @throws CommandException If an error occurs during command execution.
+     */
+    private void checkValidYear() throws CommandException {
+        YearMonth start = getMatrixStartMonth();
+        if (start.isBefore(EARLIEST_MONTH) || start.isAfter(YearMonth.now())) {
+            String latest = (term == null) ? Year.now().toString() : "the current term";
+            logger.severe("Year or term provided starts before 01-1900 or after " + latest + ".");
+            throw new CommandException("Year or term must be within 1900 until " + latest + ".");
+        }
+    }
+
     /**
      * Checks whether user's date is within 01-01-1900 to current date.
      *
@@ -153,61 +209,88 @@ public class AttendanceDownloadCommand extends Command {
     }
 
     /**
-     * Downloads monthly attendance reports for all specified classes.
-     * Generates separate CSV files for each class and returns the path
-     * of the last saved file.
+     * Downloads daily or monthly attendance reports for all specified classes.
+     * Students are partitioned by class in one pass, and each class's CSV file is then saved in parallel.
+     * A class whose file fails to save does not stop the others.
      *
      * @param model The model containing the person data.
-     * @param filePath The file path for saving the reports.
-     * @return The file path of the last saved class attendance report.
-     * @throws IOException If an error occurs during file saving.
+     * @return The directory the reports are saved to, followed by the outcome for each class.
+     * @throws IOException If the reports could not be saved at all.
+     * @throws CommandException If no class has students, or no report could be saved.
      */
-    private String downloadClassMonthlyAttendanceReport(Model model, String filePath)
-            throws IOException, CommandException {
-        String fileName;
-        for (Class studentClass : studentClass) {
-            String classCsv = generateClassMonthlyAttendanceReport(model, studentClass, month);
-            fileName = studentClass + "_attendance_"
-                    + month.format(DateTimeFormatter.ofPattern("MM-yyyy"))
-                    + ".csv";
-
-            filePath = classCsv.isEmpty() ? "" : saveAttendanceCsv(classCsv, fileName);
+    private String downloadClassAttendanceReports(Model model) throws IOException, CommandException {
+        String period = userProvideDate
+                ? date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))
+                : month.format(DateTimeFormatter.ofPattern("MM-yyyy"));
+
+        Map<String, CsvContent> files = new LinkedHashMap<>();
+        StringBuilder outcomes = new StringBuilder();
+        for (Map.Entry<Class, List<Person>> entry : getStudentsByClass(model, studentClass).entrySet()) {
+            List<Person> students = entry.getValue();
+            if (students.isEmpty()) {
+                outcomes.append("\n").append(String.format(MESSAGE_CLASS_NO_STUDENTS, entry.getKey()));
+                continue;
+            }
+
+            String fileName = entry.getKey() + "_attendance_" + period + ".csv";
+            files.put(fileName, userProvideDate
+                    ? writer -> writeDailyAttendanceReport(students, date, writer)
+                    : writer -> writeMonthlyAttendanceReport(students, month, writer));
         }
 
-        if (filePath.isEmpty()) {
+        if (files.isEmpty()) {
             throw new CommandException("No attendance report downloaded. Class(es) provided has no students.");
-        } else {
-            return filePath;
         }
+
+        boolean isAnySaved = false;
+        for (CsvSaveResult result : saveAttendanceCsvs(files)) {
+            isAnySaved |= result.isSaved();
+            outcomes.append("\n").append(result.isSaved()
+                    ? String.format(MESSAGE_FILE_SAVED, result.getSavedFileName())
+                    : String.format(MESSAGE_FILE_FAILED, result.getFileName(), result.getError().getMessage()));
+        }
+
+        if (!isAnySaved) {
+            throw new CommandException("Error saving attendance report(s):" + outcomes);
+        }
+        return AttendanceCsvStorage.getDataDirectory().toAbsolutePath() + outcomes.toString();
     }
 
     /**
-     * Downloads daily attendance reports for all specified classes.
-     * Generates separate CSV files for each class and returns the path
-     * of the last saved file.
+     * Downloads the attendance of the specified students or classes over a whole year or term into one file,
+     * with a row per student and a column per school day. Students are picked in one pass over the list and
+     * each row is written as soon as it is formatted.
      *
      * @param model The model containing the person data.
-     * @param filePath The file path for saving the reports.
-     * @return The file path of the last saved class attendance report.
+     * @return The file path of the saved attendance report.
      * @throws IOException If an error occurs during file saving.
      */
-    private String downloadClassDailyAttendanceReport(Model model, String filePath)
-            throws IOException, CommandException {
-        String fileName;
-        for (Class studentClass : studentClass) {
-            String classCsv = generateClassDailyAttendanceReport(model, studentClass, date);
-            fileName = studentClass + "_attendance_"
-                    + date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))
-                    + ".csv";
-
-            filePath = classCsv.isEmpty() ? "" : saveAttendanceCsv(classCsv, fileName);
+    private String downloadAttendanceMatrix(Model model)
+            throws IOException, IndexOutOfBoundsException, CommandException {
+        List<Person> students;
+        if (indexes != null) {
+            students = getStudents(model, indexes);
+        } else {
+            students = new ArrayList<>();
+            getStudentsByClass(model, studentClass).values().forEach(students::addAll);
         }
 
-        if (filePath.isEmpty()) {
-            throw new CommandException("No attendance report downloaded. Class(es) provided has no students.");
-        } else {
-            return filePath;
+        if (students.isEmpty()) {
+            throw new CommandException("No attendance report downloaded. No student in the index(es) or "
+                    + "class(es) specified.");
         }
+
+        YearMonth startMonth = getMatrixStartMonth();
+        YearMonth endMonth = (term == null) ? year.atMonth(12) : AttendanceStatistics.getTermEnd(startMonth);
+        String period = (term == null) ? year.toString() : "T" + term + "-" + year;
+        String fileName = ((indexes != null) ? "student" : "class") + "_attendance_" + period + ".csv";
+
+        return saveAttendanceCsv(writer -> writeAttendanceMatrix(students, startMonth.atDay(1),
+                endMonth.atEndOfMonth(), writer), fileName);
+    }
+
+    private YearMonth getMatrixStartMonth() {
+        return year.atMonth((term == null) ? 1 : (term - 1) * AttendanceStatistics.MONTHS_PER_TERM + 1);
     }
 
     /**
@@ -220,15 +303,15 @@ public class AttendanceDownloadCommand extends Command {
      */
     private String downloadStudentMonthlyAttendanceReport(Model model)
             throws IOException, IndexOutOfBoundsException, CommandException {
-        String fileCsv = generateStudentsMonthlyAttendanceReport(model, indexes, month);
+        List<Person> students = getStudents(model, indexes);
         String fileName = "student_attendance_"
                 + month.format(DateTimeFormatter.ofPattern("MM-yyyy"))
                 + ".csv";
 
-        if (fileCsv.isEmpty()) {
+        if (students.isEmpty()) {
             throw new CommandException("No attendance report downloaded. No student in the index specified.");
         } else {
-            return saveAttendanceCsv(fileCsv, fileName);
+            return saveAttendanceCsv(writer -> writeMonthlyAttendanceReport(students, month, writer), fileName);
         }
     }
 
@@ -262,7 +345,9 @@ public class AttendanceDownloadCommand extends Command {
                 && date.equals(otherAttendanceDownloadCommand.date)
                 && month.equals(otherAttendanceDownloadCommand.month)
                 && userProvideDate.equals(otherAttendanceDownloadCommand.userProvideDate)
-                && userProvideMonth.equals(otherAttendanceDownloadCommand.userProvideMonth);
+                && userProvideMonth.equals(otherAttendanceDownloadCommand.userProvideMonth)
+                && Objects.equals(year, otherAttendanceDownloadCommand.year)
+                && Objects.equals(term, otherAttendanceDownloadCommand.term);
     }
 
     @Override
@@ -274,6 +359,8 @@ public class AttendanceDownloadCommand extends Command {
                 .add("month", month)
                 .add("userProvideDate", userProvideDate)
                 .add("userProvideMonth", userProvideMonth)
+                .add("year", year)
+                .add("term", term)
                 .toString();
     }
 }
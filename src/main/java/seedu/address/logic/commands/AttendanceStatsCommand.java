@@ -0,0 +1,193 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the attendance statistics of a student or a class for a term and a month, or for a range of dates.
+ * For a class, also lists its chronic absentees for the term.
+ */
+public class AttendanceStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendanceS";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows attendance statistics of a student or class for a month and the term containing it."
+            + "\nParameters can be in one of these formats:\n"
+            + "1. " + COMMAND_WORD + " INDEX [m/MONTH]\n"
+            + "2. " + COMMAND_WORD + " c/CLASS [m/MONTH]\n"
+            + "3. " + COMMAND_WORD + " INDEX d/START_DATE d/END_DATE\n"
+            + "4. " + COMMAND_WORD + " c/CLASS d/START_DATE d/END_DATE\n"
+            + "Examples:\n"
+            + "• " + COMMAND_WORD + " 1 " + PREFIX_MONTH + "12-2025\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K2B\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K2B " + PREFIX_DATE + "03-02-2025 " + PREFIX_DATE
+            + "21-03-2025";
+
+    public static final String MESSAGE_NOT_STUDENT = "%1$s is not a student.";
+    public static final String MESSAGE_STUDENT_STATISTICS = "Attendance statistics of %1$s:\n%2$s";
+    public static final String MESSAGE_CLASS_STATISTICS = "Attendance statistics of class %1$s:\n%2$s";
+    public static final String MESSAGE_CHRONIC_ABSENTEES = "Chronic absentees this term (absent on at least %1$d%% "
+            + "of recorded days):\n%2$s";
+    public static final String MESSAGE_NO_CHRONIC_ABSENTEES = "No chronic absentees this term.";
+    public static final String MESSAGE_RANGE_STATISTICS = "Attendance of %1$s from %2$s to %3$s: %4$.1f%% present "
+            + "(%5$d of %6$d days), %7$d late, %8$d sick, %9$d absent";
+
+    /** Students absent on at least this percentage of their recorded days in a term are chronic absentees. */
+    public static final int CHRONIC_ABSENCE_PERCENTAGE = 10;
+
+    private static final List<AttendanceStatus> RECORDED_STATUSES = List.of(AttendanceStatus.PRESENT,
+            AttendanceStatus.LATE, AttendanceStatus.SICK, AttendanceStatus.ABSENT);
+
+    private final Index index;
+    private final Class studentClass;
+    private final YearMonth month;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an AttendanceStatsCommand for the student at {@code index} or for {@code studentClass}, exactly one
+     * of which must be non-null, in {@code month}.
+     */
+    public AttendanceStatsCommand(Index index, Class studentClass, YearMonth month) {
+        this(index, studentClass, requireNonNull(month), null, null);
+    }
+
+    /**
+     * Creates an AttendanceStatsCommand for the student at {@code index} or for {@code studentClass}, exactly one
+     * of which must be non-null, from {@code startDate} to {@code endDate} inclusive.
+     */
+    public AttendanceStatsCommand(Index index, Class studentClass, LocalDate startDate, LocalDate endDate) {
+        this(index, studentClass, null, requireNonNull(startDate), requireNonNull(endDate));
+    }
+
+    private AttendanceStatsCommand(Index index, Class studentClass, YearMonth month, LocalDate startDate,
+            LocalDate endDate) {
+        assert (index == null) != (studentClass == null);
+
+        this.index = index;
+        this.studentClass = studentClass;
+        this.month = month;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (index != null) {
+            List<Person> lastShownList = model.getFilteredPersonList();
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+
+            Person student = lastShownList.get(index.getZeroBased());
+            if (!student.isStudent()) {
+                throw new CommandException(String.format(MESSAGE_NOT_STUDENT, student.getName()));
+            }
+            if (month == null) {
+                return new CommandResult(formatRangeStatistics(student.getName().toString(), List.of(student)));
+            }
+            return new CommandResult(String.format(MESSAGE_STUDENT_STATISTICS, student.getName(),
+                    student.getAttendance().getStatistics().formatSummary(month)));
+        }
+
+        if (month == null) {
+            // One pass over the class, counting each student's range from its cumulative counts
+            return new CommandResult(formatRangeStatistics("class " + studentClass,
+                    model.getStudentsInClass(studentClass)));
+        }
+
+        AttendanceStatistics classStatistics = model.getClassAttendanceStatistics(studentClass);
+        return new CommandResult(String.format(MESSAGE_CLASS_STATISTICS, studentClass,
+                classStatistics.formatSummary(month)) + "\n" + formatChronicAbsentees(model));
+    }
+
+    private String formatRangeStatistics(String subject, Collection<Person> students) {
+        int[] counts = new int[AttendanceStatus.values().length];
+        for (Person student : students) {
+            for (AttendanceStatus status : RECORDED_STATUSES) {
+                counts[status.ordinal()] += student.getAttendance().countRecords(status, startDate, endDate);
+            }
+        }
+
+        int total = 0;
+        for (AttendanceStatus status : RECORDED_STATUSES) {
+            total += counts[status.ordinal()];
+        }
+        int present = counts[AttendanceStatus.PRESENT.ordinal()];
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
+        return String.format(MESSAGE_RANGE_STATISTICS, subject, startDate.format(formatter),
+                endDate.format(formatter), (total == 0) ? 0 : 100.0 * present / total, present, total,
+                counts[AttendanceStatus.LATE.ordinal()], counts[AttendanceStatus.SICK.ordinal()],
+                counts[AttendanceStatus.ABSENT.ordinal()]);
+    }
+
+    private String formatChronicAbsentees(Model model) {
+        YearMonth termStart = AttendanceStatistics.getTermStart(month);
+        YearMonth termEnd = AttendanceStatistics.getTermEnd(month);
+
+        String absentees = model.getStudentsInClass(studentClass).stream()
+                .filter(person -> person.getAttendance().getStatistics()
+                        .getPercentage(AttendanceStatus.ABSENT, termStart, termEnd) >= CHRONIC_ABSENCE_PERCENTAGE)
+                .map(person -> String.format("%s - %.1f%% absent", person.getName(), person.getAttendance()
+                        .getStatistics().getPercentage(AttendanceStatus.ABSENT, termStart, termEnd)))
+                .collect(Collectors.joining("\n"));
+
+        return absentees.isEmpty()
+                ? MESSAGE_NO_CHRONIC_ABSENTEES
+                : String.format(MESSAGE_CHRONIC_ABSENTEES, CHRONIC_ABSENCE_PERCENTAGE, absentees);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceStatsCommand otherCommand)) {
+            return false;
+        }
+
+        return Objects.equals(index, otherCommand.index)
+                && Objects.equals(studentClass, otherCommand.studentClass)
+                && Objects.equals(month, otherCommand.month)
+                && Objects.equals(startDate, otherCommand.startDate)
+                && Objects.equals(endDate, otherCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("studentClass", studentClass)
+                .add("month", month)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+
+}
@@ -52,6 +52,14 @@ public class CommandResult {
         this(feedbackToUser, false, true, false, personToView);
     }
 
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code message} appended to the feedback on a new line.
+     */
+    public CommandResult withAppendedFeedback(String message) {
+        requireNonNull(message);
+        return new CommandResult(feedbackToUser + "\n" + message, showHelp, showView, exit, personToView);
+    }
+
     public boolean isShowPerson() {
         return personToView != null;
     }
@@ -1,13 +1,22 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.MODE_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.PhoneticMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,8 +34,9 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by the index number used in the displayed person list or his name.\n"
-            + "Parameters: INDEX (must be exactly one positive integer) or n/NAME\n"
-            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " n/John ";
+            + "Parameters: INDEX (must be exactly one positive integer) or n/NAME [" + PREFIX_MODE + MODE_SOUND + "]\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " n/John or " + COMMAND_WORD + " n/Jon Smyth "
+            + PREFIX_MODE + MODE_SOUND;
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
@@ -35,6 +45,7 @@ public class DeleteCommand extends Command {
     private final Index targetIndex;
     private final String targetName;
     private final boolean isDeletedByName;
+    private final boolean isSoundAlike;
     private final InfoPopupHandler infoPopupHandler;
     private final DeletePopupHandler deletePopupHandler;
 
@@ -45,6 +56,7 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
         this.targetName = null;
         this.isDeletedByName = false;
+        this.isSoundAlike = false;
         this.infoPopupHandler = infoPopupHandler;
         this.deletePopupHandler = deletePopupHandler;
     }
@@ -53,9 +65,19 @@ public class DeleteCommand extends Command {
      * Creates a DeleteCommand to delete by name.
      */
     public DeleteCommand(String targetName, InfoPopupHandler infoPopupHandler, DeletePopupHandler deletePopupHandler) {
+        this(targetName, false, infoPopupHandler, deletePopupHandler);
+    }
+
+    /**
+     * Creates a DeleteCommand to delete by name, offering the names that sound alike {@code targetName} if
+     * {@code isSoundAlike} is true, or the names containing it otherwise.
+     */
+    public DeleteCommand(String targetName, boolean isSoundAlike, InfoPopupHandler infoPopupHandler,
+            DeletePopupHandler deletePopupHandler) {
         this.targetIndex = null;
         this.targetName = targetName;
         this.isDeletedByName = true;
+        this.isSoundAlike = isSoundAlike;
         this.infoPopupHandler = infoPopupHandler;
         this.deletePopupHandler = deletePopupHandler;
     }
@@ -70,7 +92,10 @@ public class DeleteCommand extends Command {
         if (isDeletedByName) {
             logger.log(Level.INFO, "Deleting by name.");
             assert targetName != null;
-            List<Person> exactMatches = lastShownList.stream()
+            List<Person> possibleMatches = isSoundAlike
+                    ? findShownPersonsWithNameSoundingLike(model, targetName)
+                    : findShownPersonsWithNameContaining(model, targetName);
+            List<Person> exactMatches = possibleMatches.stream()
                     .filter(p -> p.getName().fullName.equalsIgnoreCase(targetName))
                     .toList();
 
@@ -85,11 +110,9 @@ public class DeleteCommand extends Command {
             }
 
             // same name duplicates or multiple results when partial info is provided
-            List<Person> possibleMatches = exactMatches.isEmpty()
-                    ? lastShownList.stream()
-                    .filter(p -> p.getName().fullName.toLowerCase().contains(targetName.toLowerCase()))
-                    .toList()
-                    : exactMatches;
+            if (!exactMatches.isEmpty()) {
+                possibleMatches = exactMatches;
+            }
 
             if (possibleMatches.isEmpty()) {
                 infoPopupHandler.showMessage(Messages.MESSAGE_NO_MATCHES_FOUND, Messages.MESSAGE_INSTRUCTION);
@@ -119,11 +142,77 @@ public class DeleteCommand extends Command {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
+    /**
+     * Returns the persons in the filtered person list whose name contains {@code name}, ignoring case, in the order
+     * they are shown.
+     * Every word of {@code name} is contained in a word of each matching name, so only the persons found by looking
+     * up the longest word in the name index are checked.
+     */
+    private static List<Person> findShownPersonsWithNameContaining(Model model, String name) {
+        String foldedName = KeywordMatcher.fold(name);
+        String longestWord = "";
+        for (String word : foldedName.split(" ")) {
+            if (word.length() > longestWord.length()) {
+                longestWord = word;
+            }
+        }
+        Collection<Person> candidates = longestWord.isEmpty()
+                ? model.getFilteredPersonList()
+                : model.getPersonsWithNameWordContaining(longestWord);
+
+        return inShownOrder(model, candidates.stream()
+                .filter(p -> p.getName().getNormalizedName().contains(foldedName))
+                .toList());
+    }
+
+    /**
+     * Returns the persons in the filtered person list with, for every word of {@code name} that has a Soundex code,
+     * a word of their name that sounds alike, in the order they are shown.
+     * Only the persons found by looking up the least common of those codes in the name index are checked.
+     */
+    private static List<Person> findShownPersonsWithNameSoundingLike(Model model, String name) {
+        List<String> words = Arrays.asList(KeywordMatcher.fold(name).split(" "));
+        List<String> codes = PhoneticMatcher.encodeAll(words);
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        Set<Person> candidates = null;
+        for (String word : words) {
+            if (PhoneticMatcher.encode(word).isEmpty()) {
+                continue;
+            }
+            Set<Person> wordPersons = model.getPersonsWithNameWordSoundingLike(word);
+            if (candidates == null || wordPersons.size() < candidates.size()) {
+                candidates = wordPersons;
+            }
+        }
+
+        return inShownOrder(model, candidates.stream()
+                .filter(p -> p.getName().getPhoneticCodes().containsAll(codes))
+                .toList());
+    }
+
+    /**
+     * Returns the persons of {@code matches} that are in the filtered person list, in the order they are shown.
+     * The filtered person list is only scanned when there is more than one match to put in order.
+     */
+    private static List<Person> inShownOrder(Model model, List<Person> matches) {
+        List<Person> shownMatches = matches.stream().filter(model::isInFilteredPersonList).toList();
+        if (shownMatches.size() <= 1) {
+            return shownMatches;
+        }
+        Set<Person> shownMatchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        shownMatchSet.addAll(shownMatches);
+        return model.getFilteredPersonList().stream().filter(shownMatchSet::contains).toList();
+    }
+
     /**
      * Shows a Delete popup window for the user to select from matching results.
      * */
     private Person showDeletePopup(List<Person> matchingResults) throws CommandException {
-        return deletePopupHandler.showPossibleMatches(Messages.MESSAGE_POSSIBLE_MATCHES_FOUND, matchingResults);
+        return deletePopupHandler.showPossibleMatches(isSoundAlike
+                ? Messages.MESSAGE_SOUND_ALIKE_MATCHES_FOUND
+                : Messages.MESSAGE_POSSIBLE_MATCHES_FOUND, matchingResults);
     }
 
     /**
@@ -147,7 +236,8 @@ public class DeleteCommand extends Command {
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
 
         if (isDeletedByName && otherDeleteCommand.isDeletedByName) {
-            return targetName.equalsIgnoreCase(otherDeleteCommand.targetName);
+            return targetName.equalsIgnoreCase(otherDeleteCommand.targetName)
+                    && isSoundAlike == otherDeleteCommand.isSoundAlike;
         }
 
         return !isDeletedByName && targetIndex.equals(otherDeleteCommand.targetIndex);
@@ -159,6 +249,7 @@ public class DeleteCommand extends Command {
                 .add("targetIndex", targetIndex)
                 .add("targetName", targetName)
                 .add("isDeletedByName", isDeletedByName)
+                .add("isSoundAlike", isSoundAlike)
                 .toString();
     }
 }
@@ -1,14 +1,25 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.MODE_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.MODE_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or in fuzzy or
+ * sound mode, has a word spelt or sounding alike any of them.
  * Keyword matching is case insensitive.
  */
 public class FindNameCommand extends Command {
@@ -17,12 +28,29 @@ public class FindNameCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: NAME(s) (can be partial alphabetic, spaces, hyphens, and apostrophe characters)\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: NAME(s) (can be partial alphabetic, spaces, hyphens, and apostrophe characters) "
+            + "[" + PREFIX_MODE + MODE_FUZZY + " or " + PREFIX_MODE + MODE_SOUND + "]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " aisyah " + PREFIX_MODE + MODE_FUZZY + "\n"
+            + "Example: " + COMMAND_WORD + " smyth " + PREFIX_MODE + MODE_SOUND;
+
+    public static final String MESSAGE_CLOSEST_MATCHES = "\nClosest matches: %1$s";
+
+    /** Number of fuzzy matches named in the result, closest first. */
+    public static final int MAX_RANKED_MATCHES = 5;
 
-    private final NameContainsKeywordsPredicate predicate;
+    /** Closest matches first, and matches as close as each other by name. */
+    private static final Comparator<RankedMatch> RANK_ORDER = Comparator
+            .comparingDouble((RankedMatch rankedMatch) -> -rankedMatch.similarity)
+            .thenComparing(rankedMatch -> rankedMatch.person.getName().getNormalizedName());
 
-    public FindNameCommand(NameContainsKeywordsPredicate predicate) {
+    private final PersonQuery predicate;
+
+    /**
+     * Creates a FindNameCommand that finds the names matching {@code predicate}, a query on names.
+     */
+    public FindNameCommand(PersonQuery predicate) {
+        assert predicate.getField() == PersonQuery.Field.NAME;
         this.predicate = predicate;
     }
 
@@ -30,9 +58,45 @@ public class FindNameCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonListCumulative(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW + Messages.MESSAGE_SEE_UNFILTERED_CONTACTS,
-                        model.getFilteredPersonList().size()));
+        List<Person> matches = model.getFilteredPersonList();
+        String rankedMatches = "";
+        if (predicate instanceof NameSimilarToKeywordsPredicate && !matches.isEmpty()) {
+            rankedMatches = String.format(MESSAGE_CLOSEST_MATCHES,
+                    rank(matches, (NameSimilarToKeywordsPredicate) predicate));
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW + rankedMatches
+                + Messages.MESSAGE_SEE_UNFILTERED_CONTACTS, matches.size()));
+    }
+
+    /**
+     * Returns the names of the closest of {@code matches} to the keywords of {@code similarity}, closest first.
+     */
+    private static String rank(List<Person> matches, NameSimilarToKeywordsPredicate similarity) {
+        // Each match is scored once, and only the closest few are kept, with the furthest of them at the head
+        PriorityQueue<RankedMatch> closestMatches = new PriorityQueue<>(RANK_ORDER.reversed());
+        for (Person match : matches) {
+            closestMatches.add(new RankedMatch(match, similarity.getSimilarity(match)));
+            if (closestMatches.size() > MAX_RANKED_MATCHES) {
+                closestMatches.poll();
+            }
+        }
+        return closestMatches.stream()
+                .sorted(RANK_ORDER)
+                .map(rankedMatch -> rankedMatch.person.getName().fullName)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * A match of a fuzzy search with its similarity to the keywords.
+     */
+    private static class RankedMatch {
+        private final Person person;
+        private final double similarity;
+
+        RankedMatch(Person person, double similarity) {
+            this.person = person;
+            this.similarity = similarity;
+        }
     }
 
     @Override
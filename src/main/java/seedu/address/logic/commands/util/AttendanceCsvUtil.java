@@ -1,152 +1,184 @@
 package seedu.address.logic.commands.util;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.model.Model;
+import seedu.address.model.person.Attendance;
 import seedu.address.model.person.Class;
 import seedu.address.model.person.Person;
 
 /**
  * Formats attendance data into CSV file.
+ * Reports are written row by row to a {@code Writer}, so memory use does not grow with the size of the report.
  */
 public class AttendanceCsvUtil {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    /** CSV cell of each attendance status, indexed by ordinal. */
+    private static final String[] STATUS_CELLS = new String[AttendanceStatus.values().length];
+
+    static {
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            STATUS_CELLS[status.ordinal()] = status.toString();
+        }
+    }
+
     /**
-     * Generates a monthly attendance report based on the specified index(es)
-     * and the specified month.
+     * Returns the students at the specified index(es) of the filtered person list, in index order.
+     * Contacts that are not students are skipped.
      *
      * @param model {@code Model} Which the command should operate on.
      * @param indexes The index(es) to generate attendance for.
-     * @param month The month to generate attendance for.
-     * @return CSV string with all dates in the month as columns.
+     * @return The students to generate attendance for.
+     * @throws IndexOutOfBoundsException If any of the index(es) is not in the filtered person list.
      */
-    public static String generateStudentsMonthlyAttendanceReport(Model model, Set<Index> indexes, YearMonth month)
-            throws IndexOutOfBoundsException {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        String header = generateStudentMonthlyHeader(month);
-
-        csv.append(header).append("\n");
-
-        for (Index i : indexes) {
-            Person person = model.getFilteredPersonList().get(i.getZeroBased());
-
-            String row;
-
-            if (person.isStudent()) {
-                row = generateStudentMonthlyRow(person, month);
-                atLeasOneRecord = true;
-            } else {
-                continue;
+    public static List<Person> getStudents(Model model, IndexSelection indexes) throws IndexOutOfBoundsException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        indexes.getFirstOutOfBounds(lastShownList.size()).ifPresent(index -> {
+            throw new IndexOutOfBoundsException("Index " + index.getOneBased() + " out of bounds for length "
+                    + lastShownList.size());
+        });
+
+        List<Person> students = new ArrayList<>();
+        for (int interval = 0; interval < indexes.getIntervalCount(); interval++) {
+            for (Person person : lastShownList.subList(indexes.getIntervalStart(interval).getZeroBased(),
+                    indexes.getIntervalEnd(interval).getZeroBased() + 1)) {
+                if (person.isStudent()) {
+                    students.add(person);
+                }
             }
-
-            csv.append(row).append("\n");
-        }
-
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
         }
+        return students;
     }
 
     /**
-     * Generates a daily attendance report based on the specified class
-     * and the specified date.
+     * Partitions the students of the filtered person list by the specified classes, in one pass over the list.
      *
      * @param model {@code Model} Which the command should operate on.
-     * @param studentClass The class to generate attendance for.
-     * @param date The date to generate attendance for.
-     * @return CSV string with students' attendance in rows.
+     * @param studentClasses The classes to generate attendance for.
+     * @return The students of each class, in the order the classes are given. Classes without students map to
+     *         an empty list.
      */
-    public static String generateClassDailyAttendanceReport(Model model, Class studentClass, LocalDate date) {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        csv.append("Class attendance on: ")
-                .append(date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
-                .append("\n");
-
-        String header = "Name,Status";
-
-        csv.append(header).append("\n");
-
-        ObservableList<Person> filteredStudent = model.getFilteredPersonList()
-                .filtered(person -> person.getStudentClass().equals(studentClass));
-
-        for (Person person : filteredStudent) {
-            if (person.isStudent()) {
-                csv.append(person.getName()).append(",");
-
-                Map<LocalDate, AttendanceStatus> attendance = person.getAttendance().getAttendanceRecords();
-
-                if (attendance.containsKey(date)) {
-                    csv.append(attendance.get(date).toString());
-                }
-
-                atLeasOneRecord = true;
-            } else {
-                continue;
-            }
-
-            csv.append("\n");
+    public static Map<Class, List<Person>> getStudentsByClass(Model model, List<Class> studentClasses) {
+        Map<Class, List<Person>> studentsByClass = new LinkedHashMap<>();
+        for (Class studentClass : studentClasses) {
+            studentsByClass.putIfAbsent(studentClass, new ArrayList<>());
         }
 
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
+        for (Person person : model.getFilteredPersonList()) {
+            List<Person> students = studentsByClass.get(person.getStudentClass());
+            if (students != null && person.isStudent()) {
+                students.add(person);
+            }
         }
+        return studentsByClass;
     }
 
     /**
-     * Generates a monthly attendance report based on the specified class
-     * and the specified month.
+     * Writes a monthly attendance report of the specified students for the specified month.
      *
-     * @param model {@code Model} Which the command should operate on.
-     * @param studentClass The class to generate data for.
+     * @param students The students to generate attendance for.
      * @param month The month to generate attendance for.
-     * @return CSV string with all dates in the month as columns.
-    */
-    public static String generateClassMonthlyAttendanceReport(Model model, Class studentClass, YearMonth month) {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        String header = generateStudentMonthlyHeader(month);
-
-        csv.append(header).append("\n");
-
-        ObservableList<Person> filteredStudent = model.getFilteredPersonList()
-                .filtered(person -> person.getStudentClass().equals(studentClass));
+     * @param writer Where the CSV, with all dates in the month as columns, is written to.
+     * @throws IOException If an error occurs during writing.
+     */
+    public static void writeMonthlyAttendanceReport(List<Person> students, YearMonth month, Writer writer)
+            throws IOException {
+        LocalDate[] monthDates = month.atDay(1).datesUntil(month.atEndOfMonth().plusDays(1))
+                .toArray(LocalDate[]::new);
 
+        writer.write(generateStudentMonthlyHeader(monthDates));
+        writer.write('\n');
 
-        for (Person person : filteredStudent) {
-            String row;
+        for (Person student : students) {
+            writeStudentMonthlyRow(student, monthDates, writer);
+            writer.write('\n');
+        }
+    }
 
-            if (person.isStudent()) {
-                row = generateStudentMonthlyRow(person, month);
-                atLeasOneRecord = true;
-            } else {
-                continue;
+    /**
+     * Writes a daily attendance report of the specified students for the specified date.
+     *
+     * @param students The students to generate attendance for.
+     * @param date The date to generate attendance for.
+     * @param writer Where the CSV, with students' attendance in rows, is written to.
+     * @throws IOException If an error occurs during writing.
+     */
+    public static void writeDailyAttendanceReport(List<Person> students, LocalDate date, Writer writer)
+            throws IOException {
+        writer.write("Class attendance on: " + date.format(DATE_FORMATTER) + "\n");
+        writer.write("Name,Status\n");
+
+        for (Person student : students) {
+            writer.write(student.getName().toString());
+            writer.write(',');
+
+            AttendanceStatus status = student.getAttendance().getStatus(date);
+            if (status != null) {
+                writer.write(STATUS_CELLS[status.ordinal()]);
             }
 
-            csv.append(row).append("\n");
+            writer.write('\n');
         }
+    }
 
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
+    /**
+     * Writes an attendance matrix of the specified students over the school days from {@code start} to {@code end},
+     * with a row per student and a column per school day, followed by the student's totals for those days.
+     * School days are Mondays to Fridays.
+     * Format: "Name,Class,01-10-2024,...,31-10-2024,Present,Late,Sick,Absent,Present %".
+     *
+     * @param students The students to generate attendance for.
+     * @param start The first date of the report.
+     * @param end The last date of the report.
+     * @param writer Where the CSV is written to.
+     * @throws IOException If an error occurs during writing.
+     */
+    public static void writeAttendanceMatrix(List<Person> students, LocalDate start, LocalDate end, Writer writer)
+            throws IOException {
+        LocalDate[] schoolDays = start.datesUntil(end.plusDays(1))
+                .filter(date -> date.getDayOfWeek().getValue() <= DayOfWeek.FRIDAY.getValue())
+                .toArray(LocalDate[]::new);
+
+        writer.write(generateStudentMonthlyHeader(schoolDays));
+        writer.write(",Present,Late,Sick,Absent,Present %\n");
+
+        int[] counts = new int[AttendanceStatus.values().length];
+        for (Person student : students) {
+            writer.write(student.getName().toString());
+            writer.write(',');
+            writer.write(student.getStudentClass().toString());
+
+            Arrays.fill(counts, 0);
+            Attendance attendance = student.getAttendance();
+            for (LocalDate date : schoolDays) {
+                writer.write(',');
+                AttendanceStatus status = attendance.getStatus(date);
+                if (status != null) {
+                    writer.write(STATUS_CELLS[status.ordinal()]);
+                    counts[status.ordinal()]++;
+                }
+            }
+
+            int present = counts[AttendanceStatus.PRESENT.ordinal()];
+            int recorded = present + counts[AttendanceStatus.LATE.ordinal()] + counts[AttendanceStatus.SICK.ordinal()]
+                    + counts[AttendanceStatus.ABSENT.ordinal()];
+            writer.write(String.format(",%d,%d,%d,%d,%.1f\n", present, counts[AttendanceStatus.LATE.ordinal()],
+                    counts[AttendanceStatus.SICK.ordinal()], counts[AttendanceStatus.ABSENT.ordinal()],
+                    (recorded == 0) ? 0 : 100.0 * present / recorded));
         }
     }
 
@@ -154,49 +186,41 @@ public class AttendanceCsvUtil {
      * Generates the header row for a monthly attendance report CSV.
      * Format: "Name,Class,01-10-2024,02-10-2024,...,31-10-2024".
      *
-     * @param month The month to generate headers for.
-     * @return CSV header string with all dates in the month as columns.
+     * @param monthDates The dates of the report, in order.
+     * @return CSV header string with the dates as columns.
      */
-    private static String generateStudentMonthlyHeader(YearMonth month) {
-        LocalDate firstDay = month.atDay(1);
-        LocalDate lastDay = month.atEndOfMonth();
-
-        List<LocalDate> monthDates = firstDay.datesUntil(lastDay.plusDays(1)).toList();
-
-        String header = "Name,Class,"
-                + monthDates.stream()
-                .map(date -> date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
-                .collect(Collectors.joining(","));
-
-        return header;
+    private static String generateStudentMonthlyHeader(LocalDate[] monthDates) {
+        StringBuilder header = new StringBuilder("Name,Class");
+        for (LocalDate date : monthDates) {
+            header.append(',').append(date.format(DATE_FORMATTER));
+        }
+        return header.toString();
     }
 
     /**
-     * Generates a single student's monthly attendance data as a CSV row.
+     * Writes a single student's monthly attendance data as a CSV row, without the line break.
      * Format: "John Doe,K1A,PRESENT,,ABSENT,,LATE".
      * Empty cells represent dates with no attendance records.
      *
      * @param person The student to generate data for.
-     * @param month The month to generate attendance for.
-     * @return CSV row string with student's attendance data for the month.
+     * @param monthDates All dates in the month, in order.
+     * @param writer Where the row is written to.
+     * @throws IOException If an error occurs during writing.
      */
-    private static String generateStudentMonthlyRow(Person person, YearMonth month) {
-        StringBuilder row = new StringBuilder(person.getName() + "," + person.getStudentClass());
-        Map<LocalDate, AttendanceStatus> attendance = person.getAttendance().getAttendanceRecords();
-
-        LocalDate firstDay = month.atDay(1);
-        LocalDate lastDay = month.atEndOfMonth();
-
-        List<LocalDate> monthDates = firstDay.datesUntil(lastDay.plusDays(1)).toList();
+    private static void writeStudentMonthlyRow(Person person, LocalDate[] monthDates, Writer writer)
+            throws IOException {
+        writer.write(person.getName().toString());
+        writer.write(',');
+        writer.write(person.getStudentClass().toString());
 
+        Attendance attendance = person.getAttendance();
         for (LocalDate date : monthDates) {
-            row.append(",");
-            if (attendance.containsKey(date)) {
-                row.append(attendance.get(date).toString());
+            writer.write(',');
+            AttendanceStatus status = attendance.getStatus(date);
+            if (status != null) {
+                writer.write(STATUS_CELLS[status.ordinal()]);
             }
             // else it will be an empty cell (comma)
         }
-
-        return row.toString();
     }
 }
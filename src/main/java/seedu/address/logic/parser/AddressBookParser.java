@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
+import seedu.address.logic.commands.AttendanceStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -117,6 +118,9 @@ public class AddressBookParser {
         case AttendanceDownloadCommand.COMMAND_WORD:
             return new AttendanceDownloadCommandParser().parse(arguments);
 
+        case AttendanceStatsCommand.COMMAND_WORD:
+            return new AttendanceStatsCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
@@ -1,27 +1,38 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.util.IndexParser;
+import seedu.address.model.person.Class;
 
 /**
  * Parses input arguments and creates a new AttendanceCommand object.
  */
 public class AttendanceCommandParser implements Parser<AttendanceCommand> {
 
+    public static final String MESSAGE_TOO_MANY_DATES = "Give at most two dates: "
+            + PREFIX_DATE + "START_DATE " + PREFIX_DATE + "END_DATE";
+    public static final String MESSAGE_SKIP_WITHOUT_RANGE = PREFIX_SKIP + " can only be used with a date range: "
+            + PREFIX_DATE + "START_DATE " + PREFIX_DATE + "END_DATE";
+    public static final String MESSAGE_INVALID_SKIP = "Invalid skip value. Valid values: weekends or holidays";
+
+    private static final String SKIP_WEEKENDS = "weekends";
+    private static final String SKIP_HOLIDAYS = "holidays";
+
     /**
      * Parses the given {@code String} of arguments in the context of the AttendanceCommand
      * and returns an AttendanceCommand object for execution.
@@ -30,13 +41,18 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
      */
     @Override
     public AttendanceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STATUS, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STATUS, PREFIX_DATE, PREFIX_CLASS,
+                PREFIX_SKIP);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_STATUS) || argMultimap.getPreamble().isEmpty()) {
+        boolean hasClass = arePrefixesPresent(argMultimap, PREFIX_CLASS);
+        if (!arePrefixesPresent(argMultimap, PREFIX_STATUS) || (argMultimap.getPreamble().isEmpty() && !hasClass)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
         }
+        if (hasClass && !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException("Cannot specify both INDEX and c/CLASS. Choose one.");
+        }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS, PREFIX_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS);
 
         return getAttendanceCommand(argMultimap);
     }
@@ -50,13 +66,23 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
      * @throws ParseException If error occurs during parsing.
      */
     private static AttendanceCommand getAttendanceCommand(ArgumentMultimap argMultimap) throws ParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
-
         String strIndexes = argMultimap.getPreamble();
         String strStatus = argMultimap.getValue(PREFIX_STATUS).get();
-        String strDate = argMultimap.getValue(PREFIX_DATE).orElse(LocalDate.now().format(formatter));
+        List<String> strDates = argMultimap.getAllValues(PREFIX_DATE);
+        if (strDates.size() > 2) {
+            throw new ParseException(MESSAGE_TOO_MANY_DATES);
+        }
 
-        Set<Index> indexes = IndexParser.parseIndexes(strIndexes);
+        IndexSelection indexes = null;
+        List<Class> studentClasses = null;
+        if (strIndexes.isEmpty()) {
+            studentClasses = new ArrayList<>();
+            for (String classStr : argMultimap.getAllValues(PREFIX_CLASS)) {
+                studentClasses.add(ParserUtil.parseClass(classStr));
+            }
+        } else {
+            indexes = IndexParser.parseIndexes(strIndexes);
+        }
 
         if (strStatus.trim().isEmpty()) {
             throw new ParseException("Status cannot be empty. Use: present, late, sick, absent, or remove");
@@ -69,14 +95,44 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
             throw new ParseException("Invalid status. Valid status: present, late, sick, absent, or remove");
         }
 
-        LocalDate date;
-        try {
-            date = LocalDate.parse(strDate, formatter);
-        } catch (DateTimeParseException e) {
-            throw new ParseException("Invalid date format/input. Please use dd-MM-yyyy (e.g. 29-12-2025).");
+        List<LocalDate> dates = new ArrayList<>();
+        for (String strDate : strDates) {
+            dates.add(ParserUtil.parseDate(strDate));
+        }
+
+        boolean skipWeekends = false;
+        boolean skipHolidays = false;
+        for (String skip : argMultimap.getAllValues(PREFIX_SKIP)) {
+            switch (skip.trim().toLowerCase(Locale.ROOT)) {
+            case SKIP_WEEKENDS:
+                skipWeekends = true;
+                break;
+            case SKIP_HOLIDAYS:
+                skipHolidays = true;
+                break;
+            default:
+                throw new ParseException(MESSAGE_INVALID_SKIP);
+            }
         }
 
-        return new AttendanceCommand(indexes, date, status);
+        if (dates.size() < 2) {
+            if (skipWeekends || skipHolidays) {
+                throw new ParseException(MESSAGE_SKIP_WITHOUT_RANGE);
+            }
+            LocalDate date = dates.isEmpty() ? LocalDate.now() : dates.get(0);
+            return (indexes != null)
+                    ? new AttendanceCommand(indexes, date, status)
+                    : new AttendanceCommand(studentClasses, date, status);
+        }
+
+        LocalDate startDate = dates.get(0);
+        LocalDate endDate = dates.get(1);
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(AttendanceStatsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        }
+        return (indexes != null)
+                ? new AttendanceCommand(indexes, startDate, endDate, status, skipWeekends, skipHolidays)
+                : new AttendanceCommand(studentClasses, startDate, endDate, status, skipWeekends, skipHolidays);
     }
 
     /**
@@ -4,9 +4,12 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TERM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 import static seedu.address.logic.parser.util.IndexParser.parseIndexes;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -14,10 +17,9 @@ import java.time.format.ResolverStyle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.SortedSet;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Class;
@@ -35,14 +37,15 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
      */
     @Override
     public AttendanceDownloadCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_DATE, PREFIX_MONTH);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_DATE, PREFIX_MONTH,
+                PREFIX_YEAR, PREFIX_TERM);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS) && argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(
                     MESSAGE_INVALID_COMMAND_FORMAT, AttendanceDownloadCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_MONTH);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_MONTH, PREFIX_YEAR, PREFIX_TERM);
 
         boolean hasIndex = !argMultimap.getPreamble().isEmpty()
                 && !argMultimap.getPreamble().equals(AttendanceDownloadCommand.COMMAND_WORD);
@@ -51,8 +54,16 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
         boolean userProvidedMonth = argMultimap.getValue(PREFIX_MONTH).isPresent();
 
         validateParameterCombinations(hasIndex, hasClass, userProvidedDate, userProvidedMonth);
+        Year year = parseYear(argMultimap.getValue(PREFIX_YEAR));
+        Integer term = parseTerm(argMultimap.getValue(PREFIX_TERM));
+        if (year != null && (userProvidedDate || userProvidedMonth)) {
+            throw new ParseException("Cannot combine y/YEAR with d/DATE or m/MONTH. Choose one.");
+        }
+        if (term != null && year == null) {
+            throw new ParseException("term/TERM must be given with y/YEAR.");
+        }
 
-        SortedSet<Index> indexes = null;
+        IndexSelection indexes = null;
         List<Class> studentClasses = null;
 
         if (hasIndex) {
@@ -74,7 +85,8 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
         LocalDate date = parseDate(argMultimap.getValue(PREFIX_DATE), userProvidedDate);
         YearMonth month = parseMonth(argMultimap.getValue(PREFIX_MONTH), userProvidedMonth);
 
-        return new AttendanceDownloadCommand(indexes, studentClasses, date, month, userProvidedDate, userProvidedMonth);
+        return new AttendanceDownloadCommand(indexes, studentClasses, date, month, userProvidedDate, userProvidedMonth,
+                year, term);
     }
 
     /**
@@ -148,6 +160,43 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
     }
 
 
+    /**
+     * Parses a year string into a {@code Year} object.
+     *
+     * @param yearOpt The optional year string provided by the user.
+     * @return The parsed {@code Year} object, or null if no year is provided.
+     * @throws ParseException If the year is not a 4-digit number.
+     */
+    private Year parseYear(Optional<String> yearOpt) throws ParseException {
+        if (yearOpt.isEmpty()) {
+            return null;
+        }
+        String strYear = yearOpt.get().trim();
+        if (!strYear.matches("\\d{4}")) {
+            throw new ParseException("Invalid year format/input. Please use yyyy (e.g. 2025).");
+        }
+        return Year.of(Integer.parseInt(strYear));
+    }
+
+    /**
+     * Parses a term string into its number within the year.
+     *
+     * @param termOpt The optional term string provided by the user.
+     * @return The term number, or null if no term is provided.
+     * @throws ParseException If the term is not a number from 1 to the number of terms in a year.
+     */
+    private Integer parseTerm(Optional<String> termOpt) throws ParseException {
+        if (termOpt.isEmpty()) {
+            return null;
+        }
+        String strTerm = termOpt.get().trim();
+        if (!strTerm.matches("[1-9]") || Integer.parseInt(strTerm) > AttendanceDownloadCommand.TERMS_PER_YEAR) {
+            throw new ParseException("Invalid term. Please use a number from 1 to "
+                    + AttendanceDownloadCommand.TERMS_PER_YEAR + ".");
+        }
+        return Integer.parseInt(strTerm);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
+
+/**
+ * Parses input arguments and creates a new AttendanceStatsCommand object.
+ */
+public class AttendanceStatsCommandParser implements Parser<AttendanceStatsCommand> {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Start date must not be after end date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceStatsCommand
+     * and returns an AttendanceStatsCommand object for execution.
+     *
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    @Override
+    public AttendanceStatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_MONTH, PREFIX_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_MONTH);
+
+        boolean hasIndex = !argMultimap.getPreamble().isEmpty();
+        Optional<String> classValue = argMultimap.getValue(PREFIX_CLASS);
+        if (hasIndex == classValue.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AttendanceStatsCommand.MESSAGE_USAGE));
+        }
+
+        Index index = null;
+        Class studentClass = null;
+        if (hasIndex) {
+            try {
+                index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AttendanceStatsCommand.MESSAGE_USAGE), pe);
+            }
+        } else {
+            studentClass = ParserUtil.parseClass(classValue.get());
+        }
+
+        List<String> dateValues = argMultimap.getAllValues(PREFIX_DATE);
+        if (!dateValues.isEmpty()) {
+            if (dateValues.size() != 2 || argMultimap.getValue(PREFIX_MONTH).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AttendanceStatsCommand.MESSAGE_USAGE));
+            }
+            LocalDate startDate = ParserUtil.parseDate(dateValues.get(0));
+            LocalDate endDate = ParserUtil.parseDate(dateValues.get(1));
+            if (startDate.isAfter(endDate)) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            return new AttendanceStatsCommand(index, studentClass, startDate, endDate);
+        }
+
+        YearMonth month = YearMonth.now();
+        if (argMultimap.getValue(PREFIX_MONTH).isPresent()) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-uuuu")
+                    .withResolverStyle(ResolverStyle.STRICT);
+            try {
+                month = YearMonth.parse(argMultimap.getValue(PREFIX_MONTH).get(), formatter);
+            } catch (DateTimeParseException e) {
+                throw new ParseException("Invalid month format/input. Please use MM-yyyy (e.g. 12-2025).");
+            }
+        }
+
+        return new AttendanceStatsCommand(index, studentClass, month);
+    }
+
+}
@@ -16,8 +16,16 @@ public class CliSyntax {
     public static final Prefix PREFIX_NOTE = new Prefix("desc/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_MONTH = new Prefix("m/");
+    public static final Prefix PREFIX_YEAR = new Prefix("y/");
+    public static final Prefix PREFIX_TERM = new Prefix("term/");
+    public static final Prefix PREFIX_SKIP = new Prefix("skip/");
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
     public static final Prefix PREFIX_FIELD = new Prefix("f/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
+    public static final Prefix PREFIX_MODE = new Prefix("mode/");
+
+    /* Values of PREFIX_MODE, for how names are matched */
+    public static final String MODE_FUZZY = "fuzzy";
+    public static final String MODE_SOUND = "sound";
 
 }
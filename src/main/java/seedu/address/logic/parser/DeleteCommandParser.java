@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.MODE_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,6 +19,9 @@ import seedu.address.ui.InfoPopupHandler;
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
+    public static final String MESSAGE_INVALID_MODE = "Mode of deleting by name should be " + MODE_SOUND
+            + ", or left out to match partial names";
+
     private final InfoPopupHandler infoPopupHandler;
     private final DeletePopupHandler deletePopupHandler;
 
@@ -38,10 +45,12 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
 
-        //delete n/Name
+        //delete n/Name [mode/sound]
         String trimmedArgs = args.trim();
         if (trimmedArgs.startsWith("n/")) {
-            String name = trimmedArgs.substring(2).trim();
+            ArgumentMultimap nameArgMultimap = ArgumentTokenizer.tokenize(trimmedArgs.substring(2), PREFIX_MODE);
+            nameArgMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODE);
+            String name = nameArgMultimap.getPreamble().trim();
             if (name.isEmpty()) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
@@ -49,7 +58,11 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
             if (!Name.isValidName(name)) {
                 throw new ParseException(Name.MESSAGE_CONSTRAINTS);
             }
-            return new DeleteCommand(name, infoPopupHandler, deletePopupHandler);
+            Optional<String> mode = nameArgMultimap.getValue(PREFIX_MODE);
+            if (mode.isPresent() && !mode.get().equalsIgnoreCase(MODE_SOUND)) {
+                throw new ParseException(MESSAGE_INVALID_MODE);
+            }
+            return new DeleteCommand(name, mode.isPresent(), infoPopupHandler, deletePopupHandler);
         }
 
         //delete Index
@@ -1,12 +1,19 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.MODE_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.MODE_SOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindNameCommand object
@@ -17,6 +24,9 @@ public class FindNameCommandParser implements Parser<FindNameCommand> {
             "Names to find should only contain alphabetic characters, spaces, hyphens, and apostrophes, "
                     + "and it can be partial names (case-insensitive)" + "\nExample: find-n Joh Brooke manis -";
 
+    public static final String MESSAGE_INVALID_MODE = "Mode of finding names should be " + MODE_FUZZY + " or "
+            + MODE_SOUND + ", or left out to find partial names";
+
     /** The variable used to check against name to ensure it contains only letters, spaces, hyphens, and apostrophes */
     public static final String VALIDATION_REGEX = "^[\\p{L}\\s\\-']+$";
 
@@ -26,7 +36,10 @@ public class FindNameCommandParser implements Parser<FindNameCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindNameCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODE);
+
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNameCommand.MESSAGE_USAGE));
@@ -40,7 +53,18 @@ public class FindNameCommandParser implements Parser<FindNameCommand> {
             }
         }
 
-        return new FindNameCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<String> keywords = Arrays.asList(nameKeywords);
+        Optional<String> mode = argMultimap.getValue(PREFIX_MODE);
+        if (mode.isEmpty()) {
+            return new FindNameCommand(new NameContainsKeywordsPredicate(keywords));
+        }
+        if (mode.get().equalsIgnoreCase(MODE_FUZZY)) {
+            return new FindNameCommand(new NameSimilarToKeywordsPredicate(keywords));
+        }
+        if (mode.get().equalsIgnoreCase(MODE_SOUND)) {
+            return new FindNameCommand(new NameSoundsLikeKeywordsPredicate(keywords));
+        }
+        throw new ParseException(MESSAGE_INVALID_MODE);
     }
 
 }
@@ -1,12 +1,7 @@
 package seedu.address.logic.parser.util;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
-
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -15,38 +10,47 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class IndexParser {
     /**
-     * Parses the given string index into a {@code Set<Index>}.
+     * Parses the given string index into an {@code IndexSelection}.
+     * Ranges are kept as intervals, so "1-50000" does not create an {@code Index} per value.
      *
      * @param strIndexes The given index in string format.
-     * @return Parsed index(es) in the form of {@code Set<Index>}.
+     * @return Parsed index(es) in the form of {@code IndexSelection}.
      * @throws ParseException If an error occurs during parsing.
      */
-    public static SortedSet<Index> parseIndexes(String strIndexes) throws ParseException, NumberFormatException {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
+    public static IndexSelection parseIndexes(String strIndexes) throws ParseException, NumberFormatException {
+        IndexSelection.Builder indexes = new IndexSelection.Builder();
         String[] parts = strIndexes.split(",");
 
         for (String part : parts) {
             part = part.trim();
 
             if (part.contains("-")) {
-                indexes.addAll(parseRange(part));
+                Index[] bounds = parseRangeBounds(part);
+                indexes.addRange(bounds[0], bounds[1]);
             } else {
                 indexes.add(parseSingleIndex(part));
             }
         }
 
-        return indexes;
+        return indexes.build();
     }
 
     /**
      * Parses the given range of index.
      *
      * @param range Of index in the form of "startNum-endNum".
-     * @return Parsed indexes in the form of {@code Set<Index>}.
+     * @return Parsed indexes in the form of {@code IndexSelection}.
      * @throws ParseException If an error occurred during parsing.
      */
-    public static Set<Index> parseRange(String range) throws ParseException, NumberFormatException {
-        Set<Index> indexes = new HashSet<>();
+    public static IndexSelection parseRange(String range) throws ParseException, NumberFormatException {
+        Index[] bounds = parseRangeBounds(range);
+        return IndexSelection.range(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Parses the first and last index of the given range of index.
+     */
+    private static Index[] parseRangeBounds(String range) throws ParseException, NumberFormatException {
         String[] bounds = range.split("-");
 
         if (bounds.length != 2 || bounds[0].isEmpty() || bounds[1].isEmpty()) {
@@ -67,11 +71,7 @@ public class IndexParser {
             throw new ParseException("Invalid index range: start must be <= end.");
         }
 
-        for (int i = start; i <= end; i++) {
-            indexes.add(Index.fromOneBased(i));
-        }
-
-        return indexes;
+        return new Index[] {Index.fromOneBased(start), Index.fromOneBased(end)};
     }
 
     /**
@@ -1,22 +1,80 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.PhoneticMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.TrigramMatcher;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.InvalidDateException;
+import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed (by .isSamePerson comparison).
+ * Every change made through this class, including in-place changes to a person, bumps its modification version.
+ * The attendance statistics of each class are kept up to date with the same changes, so attendance must be marked
+ * through this class rather than on the persons directly. Persons are also indexed by class, tag, phone, email and
+ * the words of their name, including how the words are spelt and sound, so lookups do not scan the person list.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final AttendanceStatistics EMPTY_STATISTICS = new AttendanceStatistics();
+    /** Expected size that index entries of name words start with. */
+    private static final int SMALL_ENTRY_SIZE = 2;
+
     private final UniquePersonList persons;
+    private long modificationVersion = 0;
+
+    /** Attendance statistics of the students in each class. */
+    private final Map<Class, AttendanceStatistics> classStatistics = new HashMap<>();
+    /** Students in each class, in the order they were added. */
+    private final Map<Class, Set<Person>> classStudents = new HashMap<>();
+    /** Persons of each class, tag, phone and email, in the order they were added. */
+    private final Map<Class, Set<Person>> classPersons = new HashMap<>();
+    private final Map<Tag, Set<Person>> tagPersons = new HashMap<>();
+    private final Map<Phone, Set<Person>> phonePersons = new HashMap<>();
+    private final Map<Email, Set<Person>> emailPersons = new HashMap<>();
+    /**
+     * Persons with each folded word in their name. Most words are shared by few persons, so each entry is an
+     * identity set that starts small rather than at the default table size.
+     */
+    private final Map<String, Set<Person>> nameWordPersons = new HashMap<>();
+    /**
+     * The folded name words in use with each suffix. A word contains some text exactly when one of its suffixes
+     * starts with that text, so the words containing the text are those of a range of keys. Only words are kept
+     * here, so the entries change when a word comes into or goes out of use, not on every change to a person.
+     */
+    private final NavigableMap<String, Set<String>> nameSuffixWords = new TreeMap<>();
+    /** The number of trigrams of each name word in use, and the words in use with each trigram, for fuzzy lookups. */
+    private final Map<String, Integer> nameWordTrigramCounts = new HashMap<>();
+    private final Map<String, Set<String>> trigramNameWords = new HashMap<>();
+    /** Persons with each Soundex code among the words of their name, in the order they were added. */
+    private final Map<String, Set<Person>> phoneticCodePersons = new HashMap<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,9 +102,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This checks all persons in one pass, so prefer it over repeated {@link #addPerson} when loading many persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        classStatistics.clear();
+        classStudents.clear();
+        classPersons.clear();
+        tagPersons.clear();
+        phonePersons.clear();
+        emailPersons.clear();
+        nameWordPersons.clear();
+        nameSuffixWords.clear();
+        nameWordTrigramCounts.clear();
+        trigramNameWords.clear();
+        phoneticCodePersons.clear();
+        persons.forEach(this::addToIndexes);
+        modificationVersion++;
     }
 
     /**
@@ -74,6 +146,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+        modificationVersion++;
     }
 
     /**
@@ -85,6 +159,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
+        modificationVersion++;
     }
 
     /**
@@ -92,7 +169,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        persons.sortPersons(comparator);
+        if (persons.sortPersons(comparator)) {
+            modificationVersion++;
+        }
     }
 
     /**
@@ -101,6 +180,406 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        removeFromIndexes(key);
+        modificationVersion++;
+    }
+
+    /**
+     * Marks the attendance of {@code target} on {@code date} as {@code status}.
+     * {@code target} must exist in the address book.
+     *
+     * @return true if the attendance of {@code target} changed.
+     * @see Person#markAttendance(LocalDate, AttendanceStatus)
+     */
+    public boolean markAttendance(Person target, LocalDate date, AttendanceStatus status)
+            throws InvalidDateException, NoAttendanceRecordException {
+        requireAllNonNull(target, date, status);
+        AttendanceStatus previousStatus = target.getAttendance().getStatus(date);
+        boolean isChanged = target.markAttendance(date, status);
+        if (isChanged) {
+            AttendanceStatistics statistics = getOrCreateClassStatistics(target.getStudentClass());
+            if (previousStatus != null) {
+                statistics.unrecord(date, previousStatus);
+            }
+            statistics.record(date, status);
+            modificationVersion++;
+        }
+        return isChanged;
+    }
+
+    /**
+     * Removes the attendance of {@code target} on {@code date}.
+     * {@code target} must exist in the address book.
+     *
+     * @return true if the attendance of {@code target} changed.
+     * @see Person#unmarkAttendance(LocalDate)
+     */
+    public boolean unmarkAttendance(Person target, LocalDate date)
+            throws InvalidDateException, NoAttendanceRecordException {
+        requireAllNonNull(target, date);
+        AttendanceStatus previousStatus = target.getAttendance().getStatus(date);
+        boolean isChanged = target.unmarkAttendance(date);
+        if (isChanged && previousStatus != null) {
+            getOrCreateClassStatistics(target.getStudentClass()).unrecord(date, previousStatus);
+        }
+        if (isChanged) {
+            modificationVersion++;
+        }
+        return isChanged;
+    }
+
+    /**
+     * Marks the attendance of {@code target} on every date in {@code dates} as {@code status}, in one batch.
+     * {@code target} must exist in the address book.
+     *
+     * @return The number of dates whose attendance changed.
+     * @see Person#markAttendance(List, AttendanceStatus)
+     */
+    public int markAttendance(Person target, List<LocalDate> dates, AttendanceStatus status)
+            throws InvalidDateException {
+        requireAllNonNull(target, dates, status);
+        AttendanceStatistics statistics = getOrCreateClassStatistics(target.getStudentClass());
+        statistics.subtract(target.getAttendance().getStatistics());
+        int changedCount;
+        try {
+            changedCount = target.markAttendance(dates, status);
+        } finally {
+            statistics.add(target.getAttendance().getStatistics());
+        }
+        if (changedCount > 0) {
+            modificationVersion++;
+        }
+        return changedCount;
+    }
+
+    /**
+     * Removes the attendance of {@code target} on every date in {@code dates}, in one batch.
+     * {@code target} must exist in the address book.
+     *
+     * @return The number of records removed.
+     * @see Person#unmarkAttendance(List)
+     */
+    public int unmarkAttendance(Person target, List<LocalDate> dates) throws InvalidDateException {
+        requireAllNonNull(target, dates);
+        AttendanceStatistics statistics = getOrCreateClassStatistics(target.getStudentClass());
+        statistics.subtract(target.getAttendance().getStatistics());
+        int removedCount;
+        try {
+            removedCount = target.unmarkAttendance(dates);
+        } finally {
+            statistics.add(target.getAttendance().getStatistics());
+        }
+        if (removedCount > 0) {
+            modificationVersion++;
+        }
+        return removedCount;
+    }
+
+    /**
+     * Sets whether {@code target} is a favourite contact.
+     * {@code target} must exist in the address book.
+     */
+    public void updateFavourite(Person target, boolean isFavourite) {
+        requireNonNull(target);
+        if (target.getIsFavBoolean() != isFavourite) {
+            modificationVersion++;
+        }
+        target.updateFavourite(isFavourite);
+    }
+
+    /**
+     * Returns the attendance statistics of the students in {@code studentClass}.
+     * The returned statistics are kept up to date with later changes and must not be modified.
+     */
+    public AttendanceStatistics getClassAttendanceStatistics(Class studentClass) {
+        requireNonNull(studentClass);
+        return classStatistics.getOrDefault(studentClass, EMPTY_STATISTICS);
+    }
+
+    /**
+     * Returns the students in {@code studentClass}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getStudentsInClass(Class studentClass) {
+        requireNonNull(studentClass);
+        return lookUp(classStudents, studentClass);
+    }
+
+    /**
+     * Returns the persons, students or not, in {@code studentClass}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getPersonsInClass(Class studentClass) {
+        requireNonNull(studentClass);
+        return lookUp(classPersons, studentClass);
+    }
+
+    /**
+     * Returns the persons tagged with {@code tag}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return lookUp(tagPersons, tag);
+    }
+
+    /**
+     * Returns the persons whose phone number is {@code phone}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return lookUp(phonePersons, phone);
+    }
+
+    /**
+     * Returns the persons whose email is {@code email}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return lookUp(emailPersons, email);
+    }
+
+    /**
+     * Returns the persons with a word of their name that contains {@code text}, ignoring case.
+     * This takes time in the number of matching persons rather than the size of the address book.
+     *
+     * @param text cannot be empty.
+     */
+    public Set<Person> getPersonsWithNameWordContaining(String text) {
+        requireNonNull(text);
+        String foldedText = KeywordMatcher.fold(text);
+        checkArgument(!foldedText.isEmpty(), "Text to look up cannot be empty");
+        Set<String> words = new HashSet<>();
+        for (Set<String> suffixWords : nameSuffixWords
+                .subMap(foldedText, true, foldedText + Character.MAX_VALUE, true).values()) {
+            words.addAll(suffixWords);
+        }
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            matches.addAll(nameWordPersons.get(word));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at least the number of persons with a word of their name that contains {@code text}, ignoring case,
+     * without collecting them. A person with more than one such word is counted once for each.
+     *
+     * @param text cannot be empty.
+     */
+    public int countPersonsWithNameWordContaining(String text) {
+        requireNonNull(text);
+        String foldedText = KeywordMatcher.fold(text);
+        checkArgument(!foldedText.isEmpty(), "Text to look up cannot be empty");
+        int count = 0;
+        for (Map.Entry<String, Set<String>> entry : nameSuffixWords
+                .subMap(foldedText, true, foldedText + Character.MAX_VALUE, true).entrySet()) {
+            for (String word : entry.getValue()) {
+                // A word is in the range once for each time it contains the text, so it is counted only at the
+                // suffix where the text first appears in it
+                if (word.length() - entry.getKey().length() == word.indexOf(foldedText)) {
+                    count += nameWordPersons.get(word).size();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the persons with a word of their name that is spelt alike {@code keyword}, ignoring case, as judged
+     * by {@link TrigramMatcher}. Only the name words sharing a trigram with {@code keyword} are compared.
+     *
+     * @param keyword cannot be empty and must be a single word.
+     */
+    public Set<Person> getPersonsWithNameWordSimilarTo(String keyword) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : getNameWordsSimilarTo(keyword)) {
+            matches.addAll(nameWordPersons.get(word));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at least the number of persons with a word of their name that is spelt alike {@code keyword}, without
+     * collecting them. A person with more than one such word is counted once for each.
+     *
+     * @param keyword cannot be empty and must be a single word.
+     */
+    public int countPersonsWithNameWordSimilarTo(String keyword) {
+        int count = 0;
+        for (String word : getNameWordsSimilarTo(keyword)) {
+            count += nameWordPersons.get(word).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the name words in use that are spelt alike {@code keyword}.
+     */
+    private List<String> getNameWordsSimilarTo(String keyword) {
+        requireNonNull(keyword);
+        Set<String> keywordTrigrams = new TrigramMatcher(List.of(keyword)).getKeywordTrigrams().get(0);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : trigramNameWords.getOrDefault(trigram, Set.of())) {
+                sharedCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        List<String> words = new ArrayList<>();
+        sharedCounts.forEach((word, sharedCount) -> {
+            if (TrigramMatcher.isSimilar(sharedCount, keywordTrigrams.size(), nameWordTrigramCounts.get(word))) {
+                words.add(word);
+            }
+        });
+        return words;
+    }
+
+    /**
+     * Returns the persons with a word of their name that sounds alike {@code word}, as judged by
+     * {@link PhoneticMatcher}, in the order they were added.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Person> getPersonsWithNameWordSoundingLike(String word) {
+        requireNonNull(word);
+        return lookUp(phoneticCodePersons, PhoneticMatcher.encode(KeywordMatcher.fold(word)));
+    }
+
+    /**
+     * Returns the classes that at least one person is in.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Class> getClasses() {
+        return Collections.unmodifiableSet(classPersons.keySet());
+    }
+
+    /**
+     * Returns the tags that at least one person has.
+     * The returned set is kept up to date with later changes.
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tagPersons.keySet());
+    }
+
+    private AttendanceStatistics getOrCreateClassStatistics(Class studentClass) {
+        return classStatistics.computeIfAbsent(studentClass, unused -> new AttendanceStatistics());
+    }
+
+    private void addToIndexes(Person person) {
+        if (person.isStudent()) {
+            getOrCreateClassStatistics(person.getStudentClass()).add(person.getAttendance().getStatistics());
+            addToIndex(classStudents, person.getStudentClass(), person);
+        }
+        addToIndex(classPersons, person.getStudentClass(), person);
+        for (Tag tag : person.getTags()) {
+            addToIndex(tagPersons, tag, person);
+        }
+        addToIndex(phonePersons, person.getPhone(), person);
+        addToIndex(emailPersons, person.getEmail(), person);
+        for (String word : person.getName().getFoldedWords()) {
+            Set<Person> wordPersons = nameWordPersons.get(word);
+            if (wordPersons == null) {
+                wordPersons = Collections.newSetFromMap(new IdentityHashMap<>(SMALL_ENTRY_SIZE));
+                nameWordPersons.put(word, wordPersons);
+                addNameWord(word);
+            }
+            wordPersons.add(person);
+        }
+        for (String code : person.getName().getPhoneticCodes()) {
+            addToIndex(phoneticCodePersons, code, person);
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        if (person.isStudent()) {
+            getOrCreateClassStatistics(person.getStudentClass()).subtract(person.getAttendance().getStatistics());
+            removeFromIndex(classStudents, person.getStudentClass(), person);
+        }
+        removeFromIndex(classPersons, person.getStudentClass(), person);
+        for (Tag tag : person.getTags()) {
+            removeFromIndex(tagPersons, tag, person);
+        }
+        removeFromIndex(phonePersons, person.getPhone(), person);
+        removeFromIndex(emailPersons, person.getEmail(), person);
+        for (String word : person.getName().getFoldedWords()) {
+            Set<Person> wordPersons = nameWordPersons.get(word);
+            // A word repeated in the name was already dropped along with the first time it appears
+            if (wordPersons != null && wordPersons.remove(person) && wordPersons.isEmpty()) {
+                nameWordPersons.remove(word);
+                removeNameWord(word);
+            }
+        }
+        for (String code : person.getName().getPhoneticCodes()) {
+            removeFromIndex(phoneticCodePersons, code, person);
+        }
+    }
+
+    /**
+     * Indexes the suffixes and trigrams of {@code word}, which has just come into use in a name.
+     */
+    private void addNameWord(String word) {
+        for (int start = 0; start < word.length(); start++) {
+            nameSuffixWords.computeIfAbsent(word.substring(start), unused -> new HashSet<>(SMALL_ENTRY_SIZE))
+                    .add(word);
+        }
+        Set<String> trigrams = TrigramMatcher.trigramsOf(word);
+        nameWordTrigramCounts.put(word, trigrams.size());
+        for (String trigram : trigrams) {
+            trigramNameWords.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Drops the suffixes and trigrams of {@code word}, which is no longer in any name.
+     */
+    private void removeNameWord(String word) {
+        for (int start = 0; start < word.length(); start++) {
+            removeWord(nameSuffixWords, word.substring(start), word);
+        }
+        nameWordTrigramCounts.remove(word);
+        for (String trigram : TrigramMatcher.trigramsOf(word)) {
+            removeWord(trigramNameWords, trigram, word);
+        }
+    }
+
+    private static void removeWord(Map<String, Set<String>> index, String key, String word) {
+        Set<String> words = index.get(key);
+        words.remove(word);
+        if (words.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static <K> Set<Person> lookUp(Map<K, Set<Person>> index, K key) {
+        Set<Person> matches = index.get(key);
+        return (matches == null) ? Set.of() : Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Adds {@code person} to the entry of {@code key}. Entries compare persons by reference and keep them in the
+     * order they were added, so that removing a person costs the same however many persons share the key.
+     */
+    private static <K> void addToIndex(Map<K, Set<Person>> index, K key, Person person) {
+        index.computeIfAbsent(key, unused -> new IdentityLinkedSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} itself, not just an equal person, from the entry of {@code key}, dropping the entry
+     * once it is empty so that the keys of {@code index} are exactly the values in use.
+     */
+    private static <K> void removeFromIndex(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> matches = index.get(key);
+        matches.remove(person);
+        if (matches.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
     }
 
     //// util methods
@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A set that compares its elements by reference and iterates over them in the order they were added.
+ * Adding, removing and looking up an element take constant time however large the set is, unlike searching a list.
+ * The table of elements starts small, as most sets hold only a few elements.
+ */
+class IdentityLinkedSet<E> extends AbstractSet<E> {
+
+    private static final int INITIAL_EXPECTED_SIZE = 2;
+
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>(INITIAL_EXPECTED_SIZE);
+    private Node<E> head;
+    private Node<E> tail;
+    private int modificationCount;
+
+    @Override
+    public boolean add(E element) {
+        if (nodes.containsKey(element)) {
+            return false;
+        }
+        Node<E> node = new Node<>(element);
+        nodes.put(element, node);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+            node.previous = tail;
+        }
+        tail = node;
+        modificationCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        Node<E> node = nodes.remove(element);
+        if (node == null) {
+            return false;
+        }
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        modificationCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return nodes.containsKey(element);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        head = null;
+        tail = null;
+        modificationCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> next = head;
+            private Node<E> lastReturned;
+            private int expectedModificationCount = modificationCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = next;
+                next = next.next;
+                return lastReturned.element;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                if (modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+                IdentityLinkedSet.this.remove(lastReturned.element);
+                lastReturned = null;
+                expectedModificationCount = modificationCount;
+            }
+        };
+    }
+
+    /**
+     * An element with links to the elements added just before and after it.
+     */
+    private static class Node<E> {
+        private final E element;
+        private Node<E> previous;
+        private Node<E> next;
+
+        Node(E element) {
+            this.element = element;
+        }
+    }
+}
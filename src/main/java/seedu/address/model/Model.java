@@ -1,14 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.InvalidDateException;
+import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -79,6 +88,98 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Marks the attendance of {@code target} on {@code date} as {@code status}.
+     * {@code target} must exist in the address book.
+     *
+     * @return true if the attendance of {@code target} changed.
+     */
+    boolean markAttendance(Person target, LocalDate date, AttendanceStatus status)
+            throws InvalidDateException, NoAttendanceRecordException;
+
+    /**
+     * Removes the attendance of {@code target} on {@code date}.
+     * {@code target} must exist in the address book.
+     *
+     * @return true if the attendance of {@code target} changed.
+     */
+    boolean unmarkAttendance(Person target, LocalDate date) throws InvalidDateException, NoAttendanceRecordException;
+
+    /**
+     * Marks the attendance of {@code target} on every date in {@code dates} as {@code status}, in one batch.
+     * {@code target} must exist in the address book.
+     *
+     * @return The number of dates whose attendance changed.
+     */
+    int markAttendance(Person target, List<LocalDate> dates, AttendanceStatus status) throws InvalidDateException;
+
+    /**
+     * Removes the attendance of {@code target} on every date in {@code dates} that has a record, in one batch.
+     * {@code target} must exist in the address book.
+     *
+     * @return The number of records removed.
+     */
+    int unmarkAttendance(Person target, List<LocalDate> dates) throws InvalidDateException;
+
+    /**
+     * Sets whether {@code target} is a favourite contact.
+     * {@code target} must exist in the address book.
+     */
+    void updateFavourite(Person target, boolean isFavourite);
+
+    /**
+     * Returns the attendance statistics of the students in {@code studentClass}, which are kept up to date as
+     * attendance is marked and unmarked.
+     */
+    AttendanceStatistics getClassAttendanceStatistics(Class studentClass);
+
+    /**
+     * Returns the students in {@code studentClass}, looked up from an index of the address book's classes.
+     */
+    Set<Person> getStudentsInClass(Class studentClass);
+
+    /**
+     * Returns the persons, students or not, in {@code studentClass}, looked up from an index of the address book.
+     */
+    Set<Person> getPersonsInClass(Class studentClass);
+
+    /**
+     * Returns the persons tagged with {@code tag}, looked up from an index of the address book.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the persons whose phone number is {@code phone}, looked up from an index of the address book.
+     */
+    Set<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Returns the persons whose email is {@code email}, looked up from an index of the address book.
+     */
+    Set<Person> getPersonsWithEmail(Email email);
+
+    /**
+     * Returns the persons with a word of their name that contains {@code text}, ignoring case, looked up from an
+     * index of the address book.
+     */
+    Set<Person> getPersonsWithNameWordContaining(String text);
+
+    /**
+     * Returns the persons with a word of their name that sounds alike {@code word}, looked up from an index of the
+     * address book.
+     */
+    Set<Person> getPersonsWithNameWordSoundingLike(String word);
+
+    /**
+     * Returns the classes that at least one person in the address book is in.
+     */
+    Set<Class> getClasses();
+
+    /**
+     * Returns the tags that at least one person in the address book has.
+     */
+    Set<Tag> getTags();
+
     /**
      * Sets the currently selected person for detailed view.
      */
@@ -92,6 +193,11 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns true if {@code person}, a person in the address book, is shown in the filtered person list.
+     */
+    boolean isInFilteredPersonList(Person person);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -103,11 +209,6 @@ public interface Model {
      */
     void sortFilteredPersonList(Comparator<Person> comparator);
 
-    /**
-     * Retrieve the list of favourites when model is launched.
-     */
-    ArrayList<Index> retrieveInitialFavList();
-
     /**
      * Refine the filtered list further (cumulatively) based on new predicate.
      *
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,8 +18,15 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.InvalidDateException;
+import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,6 +38,11 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PersonQueryPlanner queryPlanner;
+    /** Filters stacked on the person list since it was last reset, all of which must pass. */
+    private final List<Predicate<Person>> filters = new ArrayList<>();
+    /** Predicate last set on the filtered list by this model. */
+    private Predicate<? super Person> appliedPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +55,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        queryPlanner = new PersonQueryPlanner(this.addressBook);
     }
 
     public ModelManager() {
@@ -86,6 +102,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        reapplyFilters();
     }
 
     @Override
@@ -114,6 +131,85 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
+        reapplyFilters();
+    }
+
+    @Override
+    public boolean markAttendance(Person target, LocalDate date, AttendanceStatus status)
+            throws InvalidDateException, NoAttendanceRecordException {
+        return addressBook.markAttendance(target, date, status);
+    }
+
+    @Override
+    public boolean unmarkAttendance(Person target, LocalDate date)
+            throws InvalidDateException, NoAttendanceRecordException {
+        return addressBook.unmarkAttendance(target, date);
+    }
+
+    @Override
+    public int markAttendance(Person target, List<LocalDate> dates, AttendanceStatus status)
+            throws InvalidDateException {
+        return addressBook.markAttendance(target, dates, status);
+    }
+
+    @Override
+    public int unmarkAttendance(Person target, List<LocalDate> dates) throws InvalidDateException {
+        return addressBook.unmarkAttendance(target, dates);
+    }
+
+    @Override
+    public void updateFavourite(Person target, boolean isFavourite) {
+        addressBook.updateFavourite(target, isFavourite);
+    }
+
+    @Override
+    public AttendanceStatistics getClassAttendanceStatistics(Class studentClass) {
+        return addressBook.getClassAttendanceStatistics(studentClass);
+    }
+
+    @Override
+    public Set<Person> getStudentsInClass(Class studentClass) {
+        return addressBook.getStudentsInClass(studentClass);
+    }
+
+    @Override
+    public Set<Person> getPersonsInClass(Class studentClass) {
+        return addressBook.getPersonsInClass(studentClass);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        return addressBook.getPersonsWithPhone(phone);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithEmail(Email email) {
+        return addressBook.getPersonsWithEmail(email);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWordContaining(String text) {
+        return addressBook.getPersonsWithNameWordContaining(text);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWordSoundingLike(String word) {
+        return addressBook.getPersonsWithNameWordSoundingLike(word);
+    }
+
+    @Override
+    public Set<Class> getClasses() {
+        return addressBook.getClasses();
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return addressBook.getTags();
     }
 
     @Override
@@ -134,22 +230,6 @@ public class ModelManager implements Model {
         return selectedPerson;
     }
 
-    /**
-     * Adds those with a favourite indication upon launching model.
-     *
-     * @return ArrayList List of indexes from filtered list which has favourite property.
-     */
-    public ArrayList<Index> retrieveInitialFavList() {
-        ArrayList<Index> favInitialList = new ArrayList<>();
-        for (Person p: filteredPersons) {
-            if (p.getIsFavBoolean()) {
-                Index indexToInclude = Index.fromZeroBased(filteredPersons.indexOf(p));
-                favInitialList.add(indexToInclude);
-            }
-        }
-        return favInitialList;
-    }
-
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -161,23 +241,58 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public boolean isInFilteredPersonList(Person person) {
+        requireNonNull(person);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filters.clear();
+        filters.add(predicate);
+        applyFilters();
     }
 
+    /**
+     * {@inheritDoc}
+     * The stacked filters are planned together, so queries that an index can answer are looked up instead of
+     * being tested on every person.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public void updateFilteredPersonListCumulative(Predicate<Person> newPredicate) {
         requireNonNull(newPredicate);
-        Predicate<Person> originalPredicate = (Predicate<Person>) filteredPersons.getPredicate();
-        Predicate<Person> combinedPredicate;
-        if (originalPredicate == null) {
-            combinedPredicate = newPredicate;
-        } else {
-            combinedPredicate = originalPredicate.and(newPredicate);
+        Predicate<? super Person> currentPredicate = filteredPersons.getPredicate();
+        if (currentPredicate != appliedPredicate) {
+            // The filtered list was filtered directly, so that filter replaces the stacked ones
+            filters.clear();
+            filters.add((Predicate<Person>) currentPredicate);
+        }
+        filters.add(newPredicate);
+        applyFilters();
+    }
+
+    /**
+     * Filters the person list by the stacked filters, as planned by the query planner.
+     */
+    private void applyFilters() {
+        PersonQueryPlanner.Plan plan = queryPlanner.plan(filters);
+        logger.fine("Filtering persons with " + plan);
+        appliedPredicate = plan.getPredicate();
+        filteredPersons.setPredicate(plan.getPredicate());
+    }
+
+    /**
+     * Plans the stacked filters again after the indexed fields of some person changed, since a plan that looked
+     * persons up from an index only accepts the persons found at the time.
+     */
+    private void reapplyFilters() {
+        if (!filters.isEmpty()) {
+            applyFilters();
         }
-        filteredPersons.setPredicate(combinedPredicate);
     }
 
     @Override
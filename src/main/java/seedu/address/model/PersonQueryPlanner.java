@@ -0,0 +1,230 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.MatchingPersonsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Match;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Plans how to filter the persons of an {@code AddressBook} by a stack of filters, all of which must pass.
+ * Filters that are {@code PersonQuery}s can be answered from the indexes of the address book, so the planner looks
+ * up the candidates of the most selective one and tests the remaining filters only on those candidates.
+ * Other filters are opaque and can only be tested on each candidate.
+ */
+public class PersonQueryPlanner {
+
+    private final AddressBook addressBook;
+
+    public PersonQueryPlanner(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the plan for keeping only the persons that pass every filter in {@code filters}.
+     * Filters that are equal to an earlier one, or that accept every person, are merged away.
+     */
+    public Plan plan(List<Predicate<Person>> filters) {
+        requireNonNull(filters);
+        List<Predicate<Person>> conditions = new ArrayList<>();
+        for (Predicate<Person> filter : filters) {
+            if (filter != PREDICATE_SHOW_ALL_PERSONS && !conditions.contains(filter)) {
+                conditions.add(filter);
+            }
+        }
+        if (conditions.isEmpty()) {
+            return new Plan(PREDICATE_SHOW_ALL_PERSONS, null, addressBook.getPersonList().size(), 0);
+        }
+
+        // Queries are compared by estimates from the sizes of index entries, so that only the candidates of the
+        // chosen query are collected
+        PersonQuery indexedQuery = null;
+        int candidateCount = addressBook.getPersonList().size();
+        for (Predicate<Person> condition : conditions) {
+            if (!(condition instanceof PersonQuery)) {
+                continue;
+            }
+            OptionalInt estimate = estimate((PersonQuery) condition);
+            if (estimate.isEmpty()) {
+                continue;
+            }
+            if (indexedQuery == null || estimate.getAsInt() < candidateCount) {
+                indexedQuery = (PersonQuery) condition;
+                candidateCount = estimate.getAsInt();
+            }
+        }
+
+        if (indexedQuery == null) {
+            return new Plan(conditions.stream().reduce(Predicate::and).get(), null, candidateCount,
+                    conditions.size());
+        }
+
+        // The index answers the chosen query exactly, so only the other conditions are left to test
+        conditions.remove(indexedQuery);
+        List<Collection<Person>> candidateGroups = lookUp(indexedQuery).get();
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> matchingPersons = new ArrayList<>();
+        for (Collection<Person> candidateGroup : candidateGroups) {
+            for (Person candidate : candidateGroup) {
+                if (candidates.add(candidate) && conditions.stream().allMatch(condition -> condition.test(candidate))) {
+                    matchingPersons.add(candidate);
+                }
+            }
+        }
+        return new Plan(new MatchingPersonsPredicate(matchingPersons), indexedQuery, candidates.size(),
+                conditions.size());
+    }
+
+    /**
+     * Returns at least the number of persons matching {@code query}, counted from the sizes of index entries without
+     * collecting the persons, or an empty {@code OptionalInt} if no index can answer {@code query}.
+     */
+    private OptionalInt estimate(PersonQuery query) {
+        if (query.getField() != PersonQuery.Field.NAME) {
+            // The other fields are looked up as views of index entries, so nothing is copied to count them
+            return lookUp(query).map(groups -> OptionalInt.of(groups.stream().mapToInt(Collection::size).sum()))
+                    .orElse(OptionalInt.empty());
+        }
+        int count = 0;
+        for (String keyword : query.getKeywords()) {
+            count += countName(query.getMatch(), keyword.trim());
+        }
+        return OptionalInt.of(count);
+    }
+
+    /**
+     * Looks up the persons matching {@code query} from the indexes of the address book, as the persons of each
+     * matching indexed value or keyword. A person may be in more than one of the collections.
+     *
+     * @return The collections of matching persons, or an empty {@code Optional} if no index can answer {@code query}.
+     */
+    private Optional<List<Collection<Person>>> lookUp(PersonQuery query) {
+        List<Collection<Person>> candidateGroups = new ArrayList<>();
+        switch (query.getField()) {
+        case NAME:
+            for (String keyword : query.getKeywords()) {
+                candidateGroups.add(lookUpName(query.getMatch(), keyword.trim()));
+            }
+            break;
+        case CLASS:
+            for (Class studentClass : addressBook.getClasses()) {
+                if (query.matchesWord(studentClass.getFoldedValue())) {
+                    candidateGroups.add(addressBook.getPersonsInClass(studentClass));
+                }
+            }
+            break;
+        case TAG:
+            for (Tag tag : addressBook.getTags()) {
+                // Tag names are already folded
+                if (query.matchesWord(tag.tagName)) {
+                    candidateGroups.add(addressBook.getPersonsWithTag(tag));
+                }
+            }
+            break;
+        case PHONE:
+            Optional<Set<String>> phones = query.getExactValues();
+            if (phones.isEmpty()) {
+                // Partial numbers match too many distinct phones for the index to help
+                return Optional.empty();
+            }
+            for (String phone : phones.get()) {
+                candidateGroups.add(addressBook.getPersonsWithPhone(new Phone(phone)));
+            }
+            break;
+        default:
+            return Optional.empty();
+        }
+        return Optional.of(candidateGroups);
+    }
+
+    /**
+     * Looks up the persons with a word of their name that matches {@code keyword} in the way given by {@code match}.
+     */
+    private Collection<Person> lookUpName(Match match, String keyword) {
+        switch (match) {
+        case SIMILAR:
+            return addressBook.getPersonsWithNameWordSimilarTo(keyword);
+        case SOUNDS_ALIKE:
+            return addressBook.getPersonsWithNameWordSoundingLike(keyword);
+        case CONTAINS:
+        default:
+            return addressBook.getPersonsWithNameWordContaining(keyword);
+        }
+    }
+
+    /**
+     * Returns at least the number of persons with a word of their name that matches {@code keyword} in the way
+     * given by {@code match}.
+     */
+    private int countName(Match match, String keyword) {
+        switch (match) {
+        case SIMILAR:
+            return addressBook.countPersonsWithNameWordSimilarTo(keyword);
+        case SOUNDS_ALIKE:
+            return addressBook.getPersonsWithNameWordSoundingLike(keyword).size();
+        case CONTAINS:
+        default:
+            return addressBook.countPersonsWithNameWordContaining(keyword);
+        }
+    }
+
+    /**
+     * How a stack of filters is applied: which query, if any, is looked up from an index, and how many persons the
+     * remaining conditions are tested on.
+     */
+    public static class Plan {
+        private final Predicate<Person> predicate;
+        private final PersonQuery indexedQuery;
+        private final int candidateCount;
+        private final int testedConditionCount;
+
+        private Plan(Predicate<Person> predicate, PersonQuery indexedQuery, int candidateCount,
+                int testedConditionCount) {
+            this.predicate = predicate;
+            this.indexedQuery = indexedQuery;
+            this.candidateCount = candidateCount;
+            this.testedConditionCount = testedConditionCount;
+        }
+
+        /** Returns the predicate to filter the person list with. */
+        public Predicate<Person> getPredicate() {
+            return predicate;
+        }
+
+        /** Returns the query looked up from an index, or an empty {@code Optional} if every person is scanned. */
+        public Optional<PersonQuery> getIndexedQuery() {
+            return Optional.ofNullable(indexedQuery);
+        }
+
+        /** Returns the number of persons the remaining conditions are tested on. */
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", (indexedQuery == null) ? "none" : indexedQuery.getField())
+                    .add("candidates", candidateCount)
+                    .add("testedConditions", testedConditionCount)
+                    .toString();
+        }
+    }
+}
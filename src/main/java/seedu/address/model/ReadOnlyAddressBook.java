@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the contents of this address book change.
+     * Two equal readings mean nothing has changed in between.
+     */
+    long getModificationVersion();
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Set;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +15,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the school holidays, on which attendance is not taken.
+     */
+    Set<LocalDate> getHolidays();
+
 }
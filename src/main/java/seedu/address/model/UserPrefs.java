@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -15,6 +19,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "littlelogbook.json");
+    private Set<LocalDate> holidays = new TreeSet<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setHolidays(newUserPrefs.getHolidays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Set<LocalDate> getHolidays() {
+        return Collections.unmodifiableSet(holidays);
+    }
+
+    /**
+     * Replaces the school holidays with {@code holidays}.
+     */
+    public void setHolidays(Set<LocalDate> holidays) {
+        requireNonNull(holidays);
+        this.holidays = new TreeSet<>(holidays);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +87,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && holidays.equals(otherUserPrefs.holidays);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, holidays);
     }
 
     @Override
@@ -82,6 +101,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nHolidays : " + holidays);
         return sb.toString();
     }
 
@@ -1,30 +1,83 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.time.temporal.TemporalAdjusters;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
 
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
 
 /**
  * Represents a Person's attendance in the address book.
+ * <p>
+ * Records are kept per calendar year in a packed array indexed by day of the year: one bit per day says whether
+ * the day has a record, and two bits per day hold its status. A year of records is 18 longs, 144 bytes plus the
+ * array header, however many days are marked. Reads return read-only views over these arrays rather than copies.
+ * <p>
+ * The arrays double as an index ordered by date: a range of dates is read by scanning only the words that cover it,
+ * so reading a month, a week or any other span costs time in proportion to the span and the records in it, never
+ * to the number of records outside it.
+ * <p>
+ * Counting the records of a status over any span of dates adds up the kept {@link AttendanceStatistics} of the
+ * whole years in the span and counts the bits of the at most 18 words of each partly covered year, so nothing is
+ * built or cached to answer it.
  */
 public class Attendance {
     public static final String MESSAGE_CONSTRAINTS = "Attendance should only be "
             + "present/late/sick/absent.";
 
-    public final Map<LocalDate, AttendanceStatus> attendance;
+    private static final int MAX_DAYS_IN_YEAR = 366;
+    private static final int RECORDED_WORDS = (MAX_DAYS_IN_YEAR + Long.SIZE - 1) / Long.SIZE;
+    private static final int STATUS_WORDS = (2 * MAX_DAYS_IN_YEAR + Long.SIZE - 1) / Long.SIZE;
+    private static final int WORDS_PER_YEAR = RECORDED_WORDS + STATUS_WORDS;
+    private static final long[][] NO_YEARS = new long[0][];
+    private static final int DAYS_PER_STATUS_WORD = Long.SIZE / 2;
+    private static final long EVERY_OTHER_BIT = 0x5555555555555555L;
+    private static final int ANY_STATUS = -1;
+
+    /** Records of the year {@code firstYear + i} are in {@code years[i]}, which is null if that year has none. */
+    private long[][] years = NO_YEARS;
+    private int firstYear;
+    private int size;
+    private final AttendanceStatistics statistics;
+
+    private final RecordsView allRecords = new RecordsView(LocalDate.MIN, LocalDate.MAX);
 
     /**
      * Constructs an empty {@code Attendance} object.
      */
     public Attendance() {
-        this.attendance = new HashMap<>();
+        this.statistics = new AttendanceStatistics();
+    }
+
+    /**
+     * Constructs a copy of {@code toCopy} that does not share its records.
+     */
+    public Attendance(Attendance toCopy) {
+        this.firstYear = toCopy.firstYear;
+        this.size = toCopy.size;
+        this.statistics = new AttendanceStatistics(toCopy.statistics);
+        this.years = new long[toCopy.years.length][];
+        for (int i = 0; i < years.length; i++) {
+            years[i] = (toCopy.years[i] == null) ? null : toCopy.years[i].clone();
+        }
     }
 
     /**
@@ -35,8 +88,63 @@ public class Attendance {
      * @param status The status of attendance.
      */
     public boolean markAttendance(LocalDate date, AttendanceStatus status) {
-        AttendanceStatus s = attendance.put(date, status);
-        return !status.equals(s); // The status is different from the previous one
+        int code = status.getCode();
+        long[] words = getOrCreateYear(date.getYear());
+        int day = date.getDayOfYear() - 1;
+
+        boolean isRecorded = isRecorded(words, day);
+        if (isRecorded && getStatusCode(words, day) == code) {
+            return false; // The status is the same as the previous one
+        }
+        if (isRecorded) {
+            statistics.unrecord(date, AttendanceStatus.fromCode(getStatusCode(words, day)));
+        } else {
+            words[day / Long.SIZE] |= 1L << (day % Long.SIZE);
+            size++;
+        }
+        statistics.record(date, status);
+        int bit = 2 * day;
+        int word = RECORDED_WORDS + bit / Long.SIZE;
+        words[word] = (words[word] & ~(0b11L << (bit % Long.SIZE))) | ((long) code << (bit % Long.SIZE));
+        return true;
+    }
+
+    /**
+     * Marks attendance for every date in {@code dates} with the given status, in one batch.
+     *
+     * @param dates The dates of attendance.
+     * @param status The status of attendance.
+     * @return The number of dates whose attendance changed.
+     */
+    public int markAttendance(Collection<LocalDate> dates, AttendanceStatus status) {
+        requireAllNonNull(dates, status);
+        int changedCount = 0;
+        for (LocalDate date : dates) {
+            if (markAttendance(date, status)) {
+                changedCount++;
+            }
+        }
+        return changedCount;
+    }
+
+    /**
+     * Unmarks attendance for every date in {@code dates} that has a record, in one batch.
+     *
+     * @param dates The dates of attendance.
+     * @return The number of records removed.
+     */
+    public int unmarkAttendance(Collection<LocalDate> dates) {
+        requireNonNull(dates);
+        int removedCount = 0;
+        for (LocalDate date : dates) {
+            long[] words = getYear(date.getYear());
+            int day = date.getDayOfYear() - 1;
+            if (words != null && isRecorded(words, day)) {
+                removeRecord(words, day, date);
+                removedCount++;
+            }
+        }
+        return removedCount;
     }
 
     /**
@@ -45,51 +153,105 @@ public class Attendance {
      * @param date The date of attendance.
      */
     public boolean unmarkAttendance(LocalDate date) throws NoAttendanceRecordException {
-        if (attendance.remove(date) != null) {
-            return true;
-        } else {
+        long[] words = getYear(date.getYear());
+        int day = date.getDayOfYear() - 1;
+        if (words == null || !isRecorded(words, day)) {
             throw new NoAttendanceRecordException("No attendance record on the specified date.");
         }
+        removeRecord(words, day, date);
+        return true;
+    }
+
+    private void removeRecord(long[] words, int day, LocalDate date) {
+        words[day / Long.SIZE] &= ~(1L << (day % Long.SIZE));
+        size--;
+        statistics.unrecord(date, AttendanceStatus.fromCode(getStatusCode(words, day)));
     }
 
     /**
-     * Returns a copy of all attendance records.
-     * The returned map contains dates mapped to their corresponding attendance status.
-     *
-     * @return a copy of the attendance records map
+     * Returns the attendance status on {@code date}, or null if there is no record for that date.
      */
-    public Map<LocalDate, AttendanceStatus> getAttendanceRecords() {
-        return new HashMap<>(attendance);
+    public AttendanceStatus getStatus(LocalDate date) {
+        long[] words = getYear(date.getYear());
+        int day = date.getDayOfYear() - 1;
+        if (words == null || !isRecorded(words, day)) {
+            return null;
+        }
+        return AttendanceStatus.fromCode(getStatusCode(words, day));
     }
 
     /**
-     * Returns the attendance records within the specified month.
+     * Returns the number of records of {@code status} from {@code start} to {@code end} inclusive.
+     */
+    public int countRecords(AttendanceStatus status, LocalDate start, LocalDate end) {
+        requireAllNonNull(status, start, end);
+        return countRecords(status.getCode(), start, end);
+    }
+
+    /**
+     * Returns the number of records of any status from {@code start} to {@code end} inclusive.
+     */
+    public int countRecords(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return countRecords(ANY_STATUS, start, end);
+    }
+
+    /**
+     * Returns a read-only view of all attendance records, in date order.
+     * The view reflects later changes to this attendance.
+     */
+    public SortedMap<LocalDate, AttendanceStatus> getAttendanceRecords() {
+        return allRecords;
+    }
+
+    /**
+     * Returns a read-only view of the attendance records from {@code start} to {@code end} inclusive, in date order.
+     * The view reflects later changes to this attendance.
+     */
+    public SortedMap<LocalDate, AttendanceStatus> getAttendanceRecords(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return new RecordsView(start, end);
+    }
+
+    /**
+     * Returns a read-only view of the attendance records within the specified month.
      *
      * @param targetMonth specified attendance month.
      * @return attendance records map at the specified month.
      */
-    public Map<LocalDate, AttendanceStatus> getAttendanceRecordsForMonth(YearMonth targetMonth) {
-        return attendance.entrySet()
-                .stream()
-                .filter(entry -> YearMonth.from(entry.getKey()).equals(targetMonth))
-                .collect(Collectors.toMap(
-                        entry -> entry.getKey(),
-                        entry -> entry.getValue()
-                ));
+    public SortedMap<LocalDate, AttendanceStatus> getAttendanceRecordsForMonth(YearMonth targetMonth) {
+        return getAttendanceRecords(targetMonth.atDay(1), targetMonth.atEndOfMonth());
+    }
+
+    /**
+     * Returns a read-only view of the attendance records in the week, from Monday to Sunday, that contains
+     * {@code date}.
+     */
+    public SortedMap<LocalDate, AttendanceStatus> getAttendanceRecordsForWeek(LocalDate date) {
+        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return getAttendanceRecords(monday, monday.plusDays(DayOfWeek.values().length - 1));
+    }
+
+    /**
+     * Returns the counts of these attendance records by status and month, which are kept up to date as records are
+     * marked and unmarked. The returned statistics must not be modified.
+     */
+    public AttendanceStatistics getStatistics() {
+        return statistics;
     }
 
     /**
      * Returns true if there are no attendance records.
      */
     public boolean isEmpty() {
-        return attendance.isEmpty();
+        return size == 0;
     }
 
     /**
      * Returns the number of attendance records.
      */
     public int size() {
-        return attendance.size();
+        return size;
     }
 
     /**
@@ -97,24 +259,10 @@ public class Attendance {
      * @return a formatted string of the attendance record.
      */
     public String formatAttendanceRecords() {
-        if (attendance.isEmpty()) {
+        if (isEmpty()) {
             return "No attendance records.";
         }
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
-        StringBuilder formattedAttendanceRecord = new StringBuilder();
-
-        attendance.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> {
-                    String formattedDate = entry.getKey().format(formatter);
-                    formattedAttendanceRecord.append(formattedDate)
-                            .append(" → ")
-                            .append(entry.getValue().toString().toLowerCase())
-                            .append("\n");
-                });
-
-        return formattedAttendanceRecord.toString().trim();
+        return formatRecords(allRecords);
     }
 
     /**
@@ -123,32 +271,379 @@ public class Attendance {
      * @return a formatted string of the attendance record for the specified month.
      */
     public String formatAttendanceRecordsForMonth(YearMonth targetMonth) {
-        if (attendance.isEmpty()) {
+        if (isEmpty()) {
             return "No attendance records.";
         }
 
+        String result = formatRecords(getAttendanceRecordsForMonth(targetMonth));
+        return result.isEmpty() ? "No attendance records for "
+                + targetMonth.format(DateTimeFormatter.ofPattern("MMM yyyy")) : result;
+    }
+
+    /**
+     * Attendance formatter for the dates from {@code start} to {@code end} inclusive.
+     * @return a formatted string of the attendance record within the dates, or an empty string if there is none.
+     */
+    public String formatAttendanceRecords(LocalDate start, LocalDate end) {
+        return formatRecords(getAttendanceRecords(start, end));
+    }
+
+    private static String formatRecords(Map<LocalDate, AttendanceStatus> records) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
         StringBuilder formattedAttendanceRecord = new StringBuilder();
 
-        attendance.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .filter(entry -> YearMonth.from(entry.getKey()).equals(targetMonth))
-                .forEach(entry -> {
-                    String formattedDate = entry.getKey().format(formatter);
-                    formattedAttendanceRecord.append(formattedDate)
-                            .append(" → ")
-                            .append(entry.getValue().toString().toLowerCase())
-                            .append("\n");
-                });
-
-        String result = formattedAttendanceRecord.toString().trim();
-        return result.isEmpty() ? "No attendance records for "
-                + targetMonth.format(DateTimeFormatter.ofPattern("MMM yyyy")) : result;
+        records.forEach((date, status) -> formattedAttendanceRecord.append(date.format(formatter))
+                .append(" → ")
+                .append(status.toString().toLowerCase())
+                .append("\n"));
+
+        return formattedAttendanceRecord.toString().trim();
+    }
+
+    //// counting
+
+    /**
+     * Returns the number of records with the status {@code code}, or of any status if it is {@code ANY_STATUS},
+     * from {@code start} to {@code end} inclusive.
+     */
+    private int countRecords(int code, LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return 0;
+        }
+        int startYear = start.getYear();
+        int endYear = end.getYear();
+        if (startYear == endYear) {
+            return countRecordsInYear(code, startYear, start.getDayOfYear() - 1, end.getDayOfYear() - 1);
+        }
+        int count = countRecordsInYear(code, startYear, start.getDayOfYear() - 1, MAX_DAYS_IN_YEAR - 1)
+                + countRecordsInYear(code, endYear, 0, end.getDayOfYear() - 1);
+
+        // Only the years that have records are looked up in the statistics
+        int fromYear = Math.max(startYear + 1, firstYear);
+        int toYear = Math.min(endYear - 1, firstYear + years.length - 1);
+        if (fromYear <= toYear) {
+            YearMonth from = YearMonth.of(fromYear, 1);
+            YearMonth to = YearMonth.of(toYear, 12);
+            count += (code == ANY_STATUS) ? statistics.getTotal(from, to)
+                    : statistics.getCount(AttendanceStatus.fromCode(code), from, to);
+        }
+        return count;
+    }
+
+    private int countRecordsInYear(int code, int year, int fromDay, int toDay) {
+        long[] words = getYear(year);
+        if (words == null) {
+            return 0;
+        }
+        return (code == ANY_STATUS) ? countRecordedDays(words, fromDay, toDay)
+                : countStatusDays(words, code, fromDay, toDay);
+    }
+
+    //// packed records
+
+    private long[] getYear(int year) {
+        int i = year - firstYear;
+        return (i >= 0 && i < years.length) ? years[i] : null;
+    }
+
+    private long[] getOrCreateYear(int year) {
+        if (years.length == 0) {
+            years = new long[1][];
+            firstYear = year;
+        } else if (year < firstYear) {
+            long[][] grown = new long[years.length + firstYear - year][];
+            System.arraycopy(years, 0, grown, firstYear - year, years.length);
+            years = grown;
+            firstYear = year;
+        } else if (year - firstYear >= years.length) {
+            years = Arrays.copyOf(years, year - firstYear + 1);
+        }
+
+        int i = year - firstYear;
+        if (years[i] == null) {
+            years[i] = new long[WORDS_PER_YEAR];
+        }
+        return years[i];
+    }
+
+    private static boolean isRecorded(long[] words, int day) {
+        return (words[day / Long.SIZE] & (1L << (day % Long.SIZE))) != 0;
+    }
+
+    private static int getStatusCode(long[] words, int day) {
+        int bit = 2 * day;
+        return (int) (words[RECORDED_WORDS + bit / Long.SIZE] >>> (bit % Long.SIZE)) & 0b11;
+    }
+
+    /**
+     * Returns the day of the year (zero-based) of the first record in {@code words} on or after {@code fromDay},
+     * or -1 if there is none.
+     */
+    private static int nextRecordedDay(long[] words, int fromDay) {
+        for (int word = fromDay / Long.SIZE; word < RECORDED_WORDS; word++) {
+            long bits = words[word];
+            if (word == fromDay / Long.SIZE) {
+                bits &= -1L << (fromDay % Long.SIZE);
+            }
+            if (bits != 0) {
+                return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the day of the year (zero-based) of the last record in {@code words} on or before {@code fromDay},
+     * or -1 if there is none.
+     */
+    private static int previousRecordedDay(long[] words, int fromDay) {
+        for (int word = fromDay / Long.SIZE; word >= 0; word--) {
+            long bits = words[word];
+            if (word == fromDay / Long.SIZE) {
+                bits &= -1L >>> (Long.SIZE - 1 - fromDay % Long.SIZE);
+            }
+            if (bits != 0) {
+                return word * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of records in {@code words} from day {@code fromDay} to {@code toDay} inclusive.
+     */
+    private static int countRecordedDays(long[] words, int fromDay, int toDay) {
+        int count = 0;
+        for (int word = fromDay / Long.SIZE; word <= toDay / Long.SIZE; word++) {
+            long bits = words[word];
+            if (word == fromDay / Long.SIZE) {
+                bits &= -1L << (fromDay % Long.SIZE);
+            }
+            if (word == toDay / Long.SIZE) {
+                bits &= -1L >>> (Long.SIZE - 1 - toDay % Long.SIZE);
+            }
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of records in {@code words} with the status {@code code} from day {@code fromDay} to
+     * {@code toDay} inclusive.
+     */
+    private static int countStatusDays(long[] words, int code, int fromDay, int toDay) {
+        long codeInEveryDay = code * EVERY_OTHER_BIT;
+        int count = 0;
+        for (int word = fromDay / DAYS_PER_STATUS_WORD; word <= toDay / DAYS_PER_STATUS_WORD; word++) {
+            long recorded = (words[word / 2] >>> (word % 2 * DAYS_PER_STATUS_WORD)) & 0xFFFFFFFFL;
+            if (word == fromDay / DAYS_PER_STATUS_WORD) {
+                recorded &= -1L << (fromDay % DAYS_PER_STATUS_WORD);
+            }
+            if (word == toDay / DAYS_PER_STATUS_WORD) {
+                recorded &= -1L >>> (Long.SIZE - 1 - toDay % DAYS_PER_STATUS_WORD);
+            }
+            // Both bits of a day are set here if its status is the code
+            long matching = ~(words[RECORDED_WORDS + word] ^ codeInEveryDay);
+            count += Long.bitCount(matching & (matching >>> 1) & spreadToEvenBits(recorded));
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code bits}, which must fit in 32 bits, with bit {@code i} moved to bit {@code 2 * i}.
+     */
+    private static long spreadToEvenBits(long bits) {
+        bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+        bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+        bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | (bits << 2)) & 0x3333333333333333L;
+        return (bits | (bits << 1)) & EVERY_OTHER_BIT;
+    }
+
+    /**
+     * A read-only view of the records from {@code start} to {@code end} inclusive, sorted by date.
+     */
+    private class RecordsView extends AbstractMap<LocalDate, AttendanceStatus>
+            implements SortedMap<LocalDate, AttendanceStatus> {
+        private final LocalDate start;
+        private final LocalDate end;
+
+        private RecordsView(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean isInRange(LocalDate date) {
+            return !date.isBefore(start) && !date.isAfter(end);
+        }
+
+        /**
+         * Returns a view of the records of this view that are also from {@code from} to {@code to} inclusive.
+         */
+        private RecordsView narrow(LocalDate from, LocalDate to) {
+            return new RecordsView(from.isAfter(start) ? from : start, to.isBefore(end) ? to : end);
+        }
+
+        @Override
+        public AttendanceStatus get(Object key) {
+            if (!(key instanceof LocalDate) || !isInRange((LocalDate) key)) {
+                return null;
+            }
+            return getStatus((LocalDate) key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            if (this == allRecords) {
+                return Attendance.this.size;
+            }
+            int count = 0;
+            int lastYear = Math.min(end.getYear(), firstYear + years.length - 1);
+            for (int year = Math.max(start.getYear(), firstYear); year <= lastYear; year++) {
+                long[] words = getYear(year);
+                if (words == null) {
+                    continue;
+                }
+                int fromDay = (year == start.getYear()) ? start.getDayOfYear() - 1 : 0;
+                int toDay = (year == end.getYear()) ? end.getDayOfYear() - 1 : MAX_DAYS_IN_YEAR - 1;
+                if (fromDay <= toDay) {
+                    count += countRecordedDays(words, fromDay, toDay);
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !entrySet().iterator().hasNext();
+        }
+
+        @Override
+        public Set<Entry<LocalDate, AttendanceStatus>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<LocalDate, AttendanceStatus>> iterator() {
+                    return new RecordsIterator(start, end);
+                }
+
+                @Override
+                public int size() {
+                    return RecordsView.this.size();
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super LocalDate> comparator() {
+            return null; // Dates are in their natural order
+        }
+
+        @Override
+        public SortedMap<LocalDate, AttendanceStatus> subMap(LocalDate fromKey, LocalDate toKey) {
+            requireAllNonNull(fromKey, toKey);
+            return narrow(fromKey, toKey.minusDays(1));
+        }
+
+        @Override
+        public SortedMap<LocalDate, AttendanceStatus> headMap(LocalDate toKey) {
+            requireNonNull(toKey);
+            return narrow(start, toKey.minusDays(1));
+        }
+
+        @Override
+        public SortedMap<LocalDate, AttendanceStatus> tailMap(LocalDate fromKey) {
+            requireNonNull(fromKey);
+            return narrow(fromKey, end);
+        }
+
+        @Override
+        public LocalDate firstKey() {
+            return entrySet().iterator().next().getKey();
+        }
+
+        @Override
+        public LocalDate lastKey() {
+            int lastYear = Math.min(end.getYear(), firstYear + years.length - 1);
+            for (int year = lastYear; year >= Math.max(start.getYear(), firstYear); year--) {
+                long[] words = getYear(year);
+                int toDay = (year == end.getYear()) ? end.getDayOfYear() - 1 : MAX_DAYS_IN_YEAR - 1;
+                int found = (words == null) ? -1 : previousRecordedDay(words, toDay);
+                if (found != -1) {
+                    LocalDate date = LocalDate.ofYearDay(year, found + 1);
+                    if (date.isBefore(start)) {
+                        break;
+                    }
+                    return date;
+                }
+            }
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Iterates over the records from {@code start} to {@code end} inclusive, in date order.
+     */
+    private class RecordsIterator implements Iterator<Map.Entry<LocalDate, AttendanceStatus>> {
+        private final int endYear;
+        private final int endDay;
+        private int year;
+        private int day;
+        private LocalDate next;
+
+        private RecordsIterator(LocalDate start, LocalDate end) {
+            // Skip straight to the years that can hold records
+            LocalDate firstDate = LocalDate.ofYearDay(Math.max(firstYear, Year.MIN_VALUE), 1);
+            if (start.isBefore(firstDate)) {
+                start = firstDate;
+            }
+            this.year = start.getYear();
+            this.day = start.getDayOfYear() - 1;
+            this.endYear = end.getYear();
+            this.endDay = end.getDayOfYear() - 1;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (year <= endYear && year - firstYear < years.length) {
+                long[] words = getYear(year);
+                int found = (words == null) ? -1 : nextRecordedDay(words, day);
+                if (found != -1 && (year < endYear || found <= endDay)) {
+                    next = LocalDate.ofYearDay(year, found + 1);
+                    day = found + 1;
+                    return;
+                }
+                year++;
+                day = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<LocalDate, AttendanceStatus> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDate date = next;
+            AttendanceStatus status =
+                    AttendanceStatus.fromCode(getStatusCode(getYear(date.getYear()), date.getDayOfYear() - 1));
+            advance();
+            return new AbstractMap.SimpleImmutableEntry<>(date, status);
+        }
     }
 
     @Override
     public String toString() {
-        return attendance.toString();
+        return allRecords.toString();
     }
 
     @Override
@@ -163,12 +658,12 @@ public class Attendance {
         }
 
         Attendance otherAttendance = (Attendance) other;
-        return attendance.equals(otherAttendance.attendance);
+        return allRecords.equals(otherAttendance.allRecords);
     }
 
     @Override
     public int hashCode() {
-        return attendance.hashCode();
+        return allRecords.hashCode();
     }
 
 }
@@ -0,0 +1,230 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+
+/**
+ * Counts attendance records by status, in total and per month.
+ * <p>
+ * The counts are kept up to date as records are marked and unmarked, rather than recounted from the records,
+ * so reading a count for a month, or for a term of a few months, takes constant time.
+ * As with the records in {@link Attendance}, the monthly counts are kept per calendar year, in one array of the
+ * counts of every status in every month of the year.
+ * A term is a quarter of the year: January to March, April to June, July to September or October to December.
+ */
+public class AttendanceStatistics {
+
+    public static final int MONTHS_PER_TERM = 3;
+
+    private static final int STATUS_COUNT = 4;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int[][] NO_YEARS = new int[0][];
+
+    private final int[] totalCounts = new int[STATUS_COUNT];
+    /**
+     * {@code yearCounts[i][(month - 1) * STATUS_COUNT + code]} is the number of records with the status {@code code}
+     * in {@code month} of the year {@code firstYear + i}, or the array is null if that year has none.
+     */
+    private int[][] yearCounts = NO_YEARS;
+    private int firstYear;
+
+    /**
+     * Constructs statistics with no records.
+     */
+    public AttendanceStatistics() {}
+
+    /**
+     * Constructs a copy of {@code toCopy} that does not share its counts.
+     */
+    public AttendanceStatistics(AttendanceStatistics toCopy) {
+        add(toCopy);
+    }
+
+    /**
+     * Returns the first month of the term that contains {@code month}.
+     */
+    public static YearMonth getTermStart(YearMonth month) {
+        requireNonNull(month);
+        int monthIndex = month.getMonthValue() - 1;
+        return month.withMonth(monthIndex - monthIndex % MONTHS_PER_TERM + 1);
+    }
+
+    /**
+     * Returns the last month of the term that contains {@code month}.
+     */
+    public static YearMonth getTermEnd(YearMonth month) {
+        return getTermStart(month).plusMonths(MONTHS_PER_TERM - 1);
+    }
+
+    /**
+     * Counts a record of {@code status} on {@code date}.
+     */
+    public void record(LocalDate date, AttendanceStatus status) {
+        requireAllNonNull(date, status);
+        update(YearMonth.from(date), status.getCode(), 1);
+    }
+
+    /**
+     * Stops counting a record of {@code status} on {@code date}, which must have been counted.
+     */
+    public void unrecord(LocalDate date, AttendanceStatus status) {
+        requireAllNonNull(date, status);
+        update(YearMonth.from(date), status.getCode(), -1);
+    }
+
+    /**
+     * Adds all the counts of {@code other} to these statistics.
+     */
+    public void add(AttendanceStatistics other) {
+        merge(other, 1);
+    }
+
+    /**
+     * Removes all the counts of {@code other}, which must have been added before, from these statistics.
+     */
+    public void subtract(AttendanceStatistics other) {
+        merge(other, -1);
+    }
+
+    /**
+     * Returns the number of records of {@code status} over all time.
+     */
+    public int getCount(AttendanceStatus status) {
+        return totalCounts[status.getCode()];
+    }
+
+    /**
+     * Returns the number of records of {@code status} in {@code month}.
+     */
+    public int getCount(AttendanceStatus status, YearMonth month) {
+        requireNonNull(month);
+        int[] counts = getYear(month.getYear());
+        return (counts == null) ? 0 : counts[offsetOf(month) + status.getCode()];
+    }
+
+    /**
+     * Returns the number of records of {@code status} from month {@code start} to {@code end} inclusive.
+     */
+    public int getCount(AttendanceStatus status, YearMonth start, YearMonth end) {
+        requireAllNonNull(start, end);
+        int count = 0;
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            count += getCount(status, month);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of records of any status from month {@code start} to {@code end} inclusive.
+     */
+    public int getTotal(YearMonth start, YearMonth end) {
+        requireAllNonNull(start, end);
+        int total = 0;
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            int[] counts = getYear(month.getYear());
+            for (int i = 0; counts != null && i < STATUS_COUNT; i++) {
+                total += counts[offsetOf(month) + i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the percentage of records from month {@code start} to {@code end} inclusive that are {@code status},
+     * or 0 if there are no records in that time.
+     */
+    public double getPercentage(AttendanceStatus status, YearMonth start, YearMonth end) {
+        int total = getTotal(start, end);
+        return (total == 0) ? 0 : 100.0 * getCount(status, start, end) / total;
+    }
+
+    /**
+     * Returns the percentage of records in the term that contains {@code month} that are {@code status}.
+     */
+    public double getTermPercentage(AttendanceStatus status, YearMonth month) {
+        return getPercentage(status, getTermStart(month), getTermEnd(month));
+    }
+
+    /**
+     * Returns a summary of the counts in the term and in the month of {@code month}.
+     */
+    public String formatSummary(YearMonth month) {
+        YearMonth termStart = getTermStart(month);
+        YearMonth termEnd = getTermEnd(month);
+        return String.format("Term %d, %d: %.1f%% present (%d of %d days), %d late, %d sick, %d absent\n"
+                        + "%s: %d present, %d late, %d sick, %d absent",
+                termStart.getMonthValue() / MONTHS_PER_TERM + 1, month.getYear(),
+                getPercentage(AttendanceStatus.PRESENT, termStart, termEnd),
+                getCount(AttendanceStatus.PRESENT, termStart, termEnd), getTotal(termStart, termEnd),
+                getCount(AttendanceStatus.LATE, termStart, termEnd),
+                getCount(AttendanceStatus.SICK, termStart, termEnd),
+                getCount(AttendanceStatus.ABSENT, termStart, termEnd),
+                month.format(DateTimeFormatter.ofPattern("MMM yyyy")),
+                getCount(AttendanceStatus.PRESENT, month), getCount(AttendanceStatus.LATE, month),
+                getCount(AttendanceStatus.SICK, month), getCount(AttendanceStatus.ABSENT, month));
+    }
+
+    private void update(YearMonth month, int statusIndex, int delta) {
+        totalCounts[statusIndex] += delta;
+        getOrCreateYear(month.getYear())[offsetOf(month) + statusIndex] += delta;
+    }
+
+    private void merge(AttendanceStatistics other, int sign) {
+        requireNonNull(other);
+        for (int i = 0; i < STATUS_COUNT; i++) {
+            totalCounts[i] += sign * other.totalCounts[i];
+        }
+        for (int i = 0; i < other.yearCounts.length; i++) {
+            int[] otherCounts = other.yearCounts[i];
+            if (otherCounts == null) {
+                continue;
+            }
+            int[] counts = getOrCreateYear(other.firstYear + i);
+            for (int j = 0; j < counts.length; j++) {
+                counts[j] += sign * otherCounts[j];
+            }
+        }
+    }
+
+    /**
+     * Returns the counts of {@code year}, or null if it has none.
+     */
+    private int[] getYear(int year) {
+        int i = year - firstYear;
+        return (i < 0 || i >= yearCounts.length) ? null : yearCounts[i];
+    }
+
+    private int[] getOrCreateYear(int year) {
+        if (yearCounts.length == 0) {
+            yearCounts = new int[1][];
+            firstYear = year;
+        } else if (year < firstYear) {
+            int[][] grown = new int[yearCounts.length + firstYear - year][];
+            System.arraycopy(yearCounts, 0, grown, firstYear - year, yearCounts.length);
+            yearCounts = grown;
+            firstYear = year;
+        } else if (year - firstYear >= yearCounts.length) {
+            yearCounts = Arrays.copyOf(yearCounts, year - firstYear + 1);
+        }
+
+        int i = year - firstYear;
+        if (yearCounts[i] == null) {
+            yearCounts[i] = new int[MONTHS_PER_YEAR * STATUS_COUNT];
+        }
+        return yearCounts[i];
+    }
+
+    /**
+     * Returns where the counts of {@code month} start in the counts of its year.
+     */
+    private static int offsetOf(YearMonth month) {
+        return (month.getMonthValue() - 1) * STATUS_COUNT;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.KeywordMatcher;
+
 /**
  * Represents a Person's class in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidClass(String)}
@@ -17,6 +19,9 @@ public class Class {
 
     public final String value;
 
+    /** The class folded for matching keywords. */
+    private final String foldedValue;
+
     /**
      * Constructs a {@code Class}.
      *
@@ -27,6 +32,7 @@ public class Class {
         String trimmedClass = studentClass.trim();
         checkArgument(isValidClass(trimmedClass), MESSAGE_CONSTRAINTS);
         value = trimmedClass;
+        foldedValue = KeywordMatcher.fold(value);
     }
 
     /**
@@ -36,6 +42,13 @@ public class Class {
         return test.trim().matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the class folded by {@link KeywordMatcher#fold(String)}.
+     */
+    public String getFoldedValue() {
+        return foldedValue;
+    }
+
     @Override
     public String toString() {
         return value;
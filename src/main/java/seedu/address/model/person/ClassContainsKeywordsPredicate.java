@@ -1,25 +1,40 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Class} matches any of the keywords given.
  */
-public class ClassContainsKeywordsPredicate implements Predicate<Person> {
+public class ClassContainsKeywordsPredicate implements PersonQuery {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public ClassContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getStudentClass().value, keyword));
+        return matcher.matches(person.getStudentClass().getFoldedValue());
+    }
+
+    @Override
+    public Field getField() {
+        return Field.CLASS;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean matchesWord(String foldedWord) {
+        return matcher.matches(foldedWord);
     }
 
     @Override
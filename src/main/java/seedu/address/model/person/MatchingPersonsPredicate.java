@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is one of the persons given, such as those looked up from an index of the model.
+ * Persons are compared by identity, so each test is a hash lookup instead of a field-by-field comparison.
+ */
+public class MatchingPersonsPredicate implements Predicate<Person> {
+    private final Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a predicate that accepts exactly the persons in {@code matchingPersons}.
+     */
+    public MatchingPersonsPredicate(Collection<Person> matchingPersons) {
+        requireNonNull(matchingPersons);
+        this.matchingPersons.addAll(matchingPersons);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matchingPersons.contains(person);
+    }
+
+    public int size() {
+        return matchingPersons.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchingPersonsPredicate)) {
+            return false;
+        }
+
+        MatchingPersonsPredicate otherMatchingPersonsPredicate = (MatchingPersonsPredicate) other;
+        return matchingPersons.equals(otherMatchingPersonsPredicate.matchingPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return matchingPersons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("matchingPersons", matchingPersons.size()).toString();
+    }
+}
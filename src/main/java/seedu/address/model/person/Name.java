@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.PhoneticMatcher;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -23,6 +28,12 @@ public class Name {
 
     public final String fullName;
 
+    /** The name and its words, folded for matching keywords, so that finding does not split the name every time. */
+    private final String foldedName;
+    private final List<String> foldedWords;
+    /** Distinct Soundex codes of the words of the name, for finding names that sound alike. */
+    private final List<String> phoneticCodes;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -33,6 +44,9 @@ public class Name {
         String normalizedName = normalizeName(name);
         checkArgument(isValidName(normalizedName), MESSAGE_CONSTRAINTS);
         fullName = normalizedName;
+        foldedName = KeywordMatcher.fold(fullName);
+        foldedWords = List.of(foldedName.split(" "));
+        phoneticCodes = List.copyOf(PhoneticMatcher.encodeAll(foldedWords));
     }
 
     /**
@@ -95,7 +109,21 @@ public class Name {
      * Returns the normalized name for case-insensitive comparison.
      */
     public String getNormalizedName() {
-        return fullName.toLowerCase();
+        return foldedName;
+    }
+
+    /**
+     * Returns the words of the name, folded by {@link KeywordMatcher#fold(String)}.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
+    /**
+     * Returns the distinct Soundex codes of the words of the name, as given by {@link PhoneticMatcher#encode}.
+     */
+    public List<String> getPhoneticCodes() {
+        return phoneticCodes;
     }
 
 
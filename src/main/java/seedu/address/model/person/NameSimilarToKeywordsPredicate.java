@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.TrigramMatcher;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is spelt alike any of the keywords given.
+ */
+public class NameSimilarToKeywordsPredicate implements PersonQuery {
+    private final List<String> keywords;
+    private final TrigramMatcher matcher;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.matcher = new TrigramMatcher(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matcher.matchesAny(person.getName().getFoldedWords());
+    }
+
+    /**
+     * Returns how closely the name of {@code person} is spelt to the keywords, from 0 to 1, for ranking matches.
+     */
+    public double getSimilarity(Person person) {
+        return matcher.scoreAny(person.getName().getFoldedWords());
+    }
+
+    @Override
+    public Field getField() {
+        return Field.NAME;
+    }
+
+    @Override
+    public Match getMatch() {
+        return Match.SIMILAR;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean matchesWord(String foldedWord) {
+        return matcher.matches(foldedWord);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherNameSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
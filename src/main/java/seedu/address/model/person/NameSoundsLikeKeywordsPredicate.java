@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.PhoneticMatcher;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds alike any of the keywords given.
+ */
+public class NameSoundsLikeKeywordsPredicate implements PersonQuery {
+    private final List<String> keywords;
+    private final PhoneticMatcher matcher;
+
+    public NameSoundsLikeKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.matcher = new PhoneticMatcher(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matcher.matchesAnyCode(person.getName().getPhoneticCodes());
+    }
+
+    @Override
+    public Field getField() {
+        return Field.NAME;
+    }
+
+    @Override
+    public Match getMatch() {
+        return Match.SOUNDS_ALIKE;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean matchesWord(String foldedWord) {
+        return matcher.matches(foldedWord);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSoundsLikeKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSoundsLikeKeywordsPredicate otherNameSoundsLikeKeywordsPredicate = (NameSoundsLikeKeywordsPredicate) other;
+        return keywords.equals(otherNameSoundsLikeKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -42,6 +43,9 @@ public class Person {
     // Extra fields
     private final Favourite favourite;
 
+    // Bumped on every in-place change so that storage can tell which persons changed since the last save
+    private int revision = 0;
+
     /**
      * Every field must be present and not null.
      */
@@ -131,7 +135,11 @@ public class Person {
         }
 
         if (isStudent()) {
-            return attendance.markAttendance(date, status);
+            boolean isChanged = attendance.markAttendance(date, status);
+            if (isChanged) {
+                revision++;
+            }
+            return isChanged;
         } else {
             return false;
         }
@@ -152,12 +160,70 @@ public class Person {
         }
 
         if (isStudent()) {
-            return attendance.unmarkAttendance(date);
+            boolean isChanged = attendance.unmarkAttendance(date);
+            if (isChanged) {
+                revision++;
+            }
+            return isChanged;
         } else {
             return false;
         }
     }
 
+    /**
+     * Marks the attendance of this person object on every date in {@code dates}, in one batch.
+     * Nothing is marked if any of the dates is not a valid attendance date.
+     *
+     * @param dates When does this attendance apply.
+     * @param status What is the status of this attendance.
+     * @return The number of dates whose attendance changed.
+     */
+    public int markAttendance(List<LocalDate> dates, AttendanceStatus status) throws InvalidDateException {
+        assert dates != null;
+        assert status != null;
+
+        for (LocalDate date : dates) {
+            if (!validAttendanceDate(date)) {
+                throw new InvalidDateException("Attendance cannot be mark for invalid date: " + date);
+            }
+        }
+
+        if (!isStudent()) {
+            return 0;
+        }
+        int changedCount = attendance.markAttendance(dates, status);
+        if (changedCount > 0) {
+            revision++;
+        }
+        return changedCount;
+    }
+
+    /**
+     * Unmarks the attendance of this person object on every date in {@code dates} that has a record, in one batch.
+     * Nothing is unmarked if any of the dates is not a valid attendance date.
+     *
+     * @param dates When does this attendance apply.
+     * @return The number of records removed.
+     */
+    public int unmarkAttendance(List<LocalDate> dates) throws InvalidDateException {
+        assert dates != null;
+
+        for (LocalDate date : dates) {
+            if (!validAttendanceDate(date)) {
+                throw new InvalidDateException("Attendance cannot be unmark for invalid date: " + date);
+            }
+        }
+
+        if (!isStudent()) {
+            return 0;
+        }
+        int removedCount = attendance.unmarkAttendance(dates);
+        if (removedCount > 0) {
+            revision++;
+        }
+        return removedCount;
+    }
+
     /**
      * Checks whether the given date is a valid attendance date.
      * A valid attendance date must be within person's born date and today's date
@@ -194,9 +260,29 @@ public class Person {
      */
     public void updateFavourite(Boolean value) {
         assert value != null;
+        if (favourite.getIsFavouriteBoolean() != value) {
+            revision++;
+        }
         favourite.updateFavourite(value);
     }
 
+    /**
+     * Returns the number of in-place changes (attendance or favourite) made to this person so far.
+     * Two readings that differ mean this person has changed in between.
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns a copy of this person with its own attendance records and favourite status,
+     * so that later in-place changes to this person do not show up in the copy.
+     */
+    public Person copy() {
+        return new Person(name, phone, email, address, studentClass, birthday, note, tags,
+                new Attendance(attendance), new Favourite(favourite.getIsFavouriteBoolean()));
+    }
+
     /**
      * Retrieves the boolean value of favourite attribute.
      *
@@ -259,6 +345,23 @@ public class Person {
         return false;
     }
 
+    /**
+     * Returns the keys under which this person is indexed for duplicate detection.
+     * Mirrors {@link #isSamePerson(Person)}: two different persons are the same person exactly when they share
+     * at least one key. Persons that are neither students nor colleagues have no keys.
+     */
+    public Set<String> getIdentityKeys() {
+        boolean isStudent = isStudent();
+        if (isColleague()) {
+            String contactType = isStudent ? "colleague+student" : "colleague";
+            return Set.of(contactType + "|phone|" + phone.value, contactType + "|email|" + email.value);
+        }
+        if (isStudent) {
+            return Set.of("student|" + name.getNormalizedName() + "|" + phone.value);
+        }
+        return Collections.emptySet();
+    }
+
     /**
      * Returns true if person has a student tag.
      */
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.KeywordMatcher;
+
+/**
+ * A find condition on one indexed field of a {@code Person}: a word of the field must match any of the keywords,
+ * by containing it unless {@link #getMatch()} says otherwise.
+ * Unlike an opaque {@code Predicate}, it can be inspected, so the model can answer it from its indexes instead of
+ * testing every person.
+ */
+public interface PersonQuery extends Predicate<Person> {
+
+    /**
+     * Fields of a person that the address book keeps an index of.
+     */
+    enum Field {
+        NAME, CLASS, TAG, PHONE
+    }
+
+    /**
+     * Ways a word of a field can match a keyword.
+     */
+    enum Match {
+        /** The word contains the keyword. */
+        CONTAINS,
+        /** The word is spelt alike the keyword, as judged by {@link seedu.address.commons.util.TrigramMatcher}. */
+        SIMILAR,
+        /** The word sounds alike the keyword, as judged by {@link seedu.address.commons.util.PhoneticMatcher}. */
+        SOUNDS_ALIKE
+    }
+
+    /**
+     * Returns the field this query tests.
+     */
+    Field getField();
+
+    /**
+     * Returns how a word of the field matches a keyword.
+     */
+    default Match getMatch() {
+        return Match.CONTAINS;
+    }
+
+    /**
+     * Returns the keywords, any of which a word of the field must match.
+     */
+    List<String> getKeywords();
+
+    /**
+     * Returns true if {@code foldedWord}, one word of the field such as a word of a name, a class or a tag name,
+     * matches any of the keywords. A person matches exactly when any word of its field matches.
+     *
+     * @param foldedWord The word, already folded by {@link KeywordMatcher#fold(String)}.
+     */
+    boolean matchesWord(String foldedWord);
+
+    /**
+     * Returns the only values of the field that can match, if the keywords pin them down, so that those values
+     * can be looked up directly instead of matching every indexed word.
+     */
+    default Optional<Set<String>> getExactValues() {
+        return Optional.empty();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.KeywordMatcher;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -44,6 +46,14 @@ public class Phone {
         return normalized.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the phone number folded by {@link KeywordMatcher#fold(String)}, which is the number itself, as digits
+     * have no case.
+     */
+    public String getFoldedValue() {
+        return value;
+    }
+
     @Override
     public String toString() {
         return value;
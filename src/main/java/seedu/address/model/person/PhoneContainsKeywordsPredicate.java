@@ -1,25 +1,75 @@
 package seedu.address.model.person;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements PersonQuery {
+    /** Number of digits in a phone number. */
+    private static final int PHONE_LENGTH = 8;
+
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
+    private final Optional<Set<String>> exactValues;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
+        this.exactValues = findExactValues(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        return matcher.matches(person.getPhone().getFoldedValue());
+    }
+
+    @Override
+    public Field getField() {
+        return Field.PHONE;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean matchesWord(String foldedWord) {
+        return matcher.matches(foldedWord);
+    }
+
+    /**
+     * Returns the phone numbers that a person must have one of to match, if every keyword is a whole phone number.
+     * A keyword as long as a phone number can only match a phone number equal to it, so such predicates can be
+     * answered by looking the numbers up instead of testing each person.
+     *
+     * @return The phone numbers to look up, or an empty {@code Optional} if any keyword is a partial number.
+     */
+    @Override
+    public Optional<Set<String>> getExactValues() {
+        return exactValues;
+    }
+
+    private static Optional<Set<String>> findExactValues(List<String> keywords) {
+        Set<String> phones = new HashSet<>();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            if (trimmedKeyword.length() < PHONE_LENGTH || !trimmedKeyword.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                return Optional.empty();
+            }
+            if (Phone.isValidPhone(trimmedKeyword)) {
+                phones.add(trimmedKeyword);
+            }
+            // Longer numbers, or numbers that are not valid phones, cannot match any phone
+        }
+        return Optional.of(phones);
     }
 
     @Override
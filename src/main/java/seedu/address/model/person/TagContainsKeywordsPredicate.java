@@ -1,25 +1,47 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements PersonQuery {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsTagIgnoreCase(person.getTags(), keyword));
+        for (Tag tag : person.getTags()) {
+            // Tag names are already folded
+            if (matcher.matches(tag.tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Field getField() {
+        return Field.TAG;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean matchesWord(String foldedWord) {
+        return matcher.matches(foldedWord);
     }
 
     @Override
@@ -3,9 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +28,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered from a hash index of {@code Person#getIdentityKeys()}, which is kept in sync with
+ * the list on every add, replace and remove, so duplicate checks do not scan the list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -29,12 +39,20 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Number of persons in the list holding each identity key. */
+    private final Map<String, Integer> identityKeyCounts = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        Set<String> identityKeys = toCheck.getIdentityKeys();
+        if (identityKeys.isEmpty()) {
+            // Persons without identity keys are only ever the same as themselves
+            return internalList.stream().anyMatch(person -> person == toCheck);
+        }
+        return identityKeys.stream().anyMatch(identityKeyCounts::containsKey);
     }
 
     /**
@@ -47,6 +65,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        indexIdentityKeys(toAdd);
     }
 
     /**
@@ -67,6 +86,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        unindexIdentityKeys(target);
+        indexIdentityKeys(editedPerson);
     }
 
     /**
@@ -78,32 +99,50 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        unindexIdentityKeys(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityKeyCounts.clear();
+        identityKeyCounts.putAll(replacement.identityKeyCounts);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons. Uniqueness is checked in a single pass, so this is the
+     * preferred way to load many persons at once.
+     *
+     * @throws DuplicatePersonException listing every person that duplicates an earlier one in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Person> duplicates = findDuplicates(persons);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
+        identityKeyCounts.clear();
+        persons.forEach(this::indexIdentityKeys);
     }
 
     /**
      * Sort this list using the given {@code comparator}.
+     * The sort is stable, so a list that is already in order is left untouched.
+     *
+     * @return true if the order of the list changed.
      */
-    public void sortPersons(Comparator<Person> comparator) {
+    public boolean sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+        for (int i = 1; i < internalList.size(); i++) {
+            if (comparator.compare(internalList.get(i - 1), internalList.get(i)) > 0) {
+                FXCollections.sort(internalList, comparator);
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -143,17 +182,34 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void indexIdentityKeys(Person person) {
+        for (String identityKey : person.getIdentityKeys()) {
+            identityKeyCounts.merge(identityKey, 1, Integer::sum);
+        }
+    }
+
+    private void unindexIdentityKeys(Person person) {
+        for (String identityKey : person.getIdentityKeys()) {
+            identityKeyCounts.computeIfPresent(identityKey, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the persons in {@code persons} that have the same identity as a person earlier in the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private List<Person> findDuplicates(List<Person> persons) {
+        List<Person> duplicates = new ArrayList<>();
+        Set<String> seenIdentityKeys = new HashSet<>();
+        Set<Person> seenPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : persons) {
+            boolean isDuplicate = !seenPersons.add(person);
+            for (String identityKey : person.getIdentityKeys()) {
+                isDuplicate |= !seenIdentityKeys.add(identityKey);
+            }
+            if (isDuplicate) {
+                duplicates.add(person);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,33 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} naming the persons that would have been duplicated.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
         super("Operation would result in duplicate persons");
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the persons that would have been duplicated, if known.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Copies the address book between two storage formats, e.g. when switching between json and binary storage.
+ */
+public class AddressBookFormatMigrator {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatMigrator.class);
+
+    private AddressBookFormatMigrator() {}
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}, if {@code source} has an address book and
+     * {@code target}'s data file does not exist yet or was last modified before {@code source}'s.
+     * The source data file is left in place; as the target is then the newer of the two, it is not migrated again
+     * until the source is changed.
+     *
+     * @return true if the address book was migrated.
+     * @throws DataLoadingException if the source address book could not be loaded.
+     * @throws IOException if the target address book could not be saved, or either data file could not be read.
+     */
+    public static boolean migrateIfNewer(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Path targetFilePath = target.getAddressBookFilePath();
+        if (Files.exists(targetFilePath)) {
+            Path sourceFilePath = source.getAddressBookFilePath();
+            if (!Files.exists(sourceFilePath)
+                    || getLastModifiedTime(source).compareTo(Files.getLastModifiedTime(targetFilePath)) <= 0) {
+                return false;
+            }
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        logger.info("Migrating data file " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Returns when the address book in {@code storage} last changed, including changes only made to its journal.
+     */
+    private static FileTime getLastModifiedTime(AddressBookStorage storage) throws IOException {
+        Path filePath = storage.getAddressBookFilePath();
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        if (storage instanceof JournalAddressBookStorage && Files.exists(journalFilePath)) {
+            FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalFilePath);
+            if (journalLastModifiedTime.compareTo(lastModifiedTime) > 0) {
+                return journalLastModifiedTime;
+            }
+        }
+        return lastModifiedTime;
+    }
+
+}
@@ -42,4 +42,9 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the total number of bytes this storage has written to disk so far.
+     */
+    long getBytesWritten();
+
 }
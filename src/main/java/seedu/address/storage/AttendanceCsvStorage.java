@@ -1,19 +1,44 @@
 package seedu.address.storage;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
 
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Saves Attendance CSV file into device.
  */
 public class AttendanceCsvStorage {
 
+    /** Most files written at the same time when saving several attendance reports. */
+    public static final int MAX_PARALLEL_WRITES = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(AttendanceCsvStorage.class);
+
     private static Path dataDir = Paths.get("data");
 
+    /**
+     * Writes the content of a CSV file.
+     */
+    @FunctionalInterface
+    public interface CsvContent {
+        void writeTo(Writer writer) throws IOException;
+    }
+
     /**
      * Saves Attendance CSV file into /data.
      *
@@ -23,15 +48,113 @@ public class AttendanceCsvStorage {
      * @throws IOException If an error occurs during file saving.
      */
     public static String saveAttendanceCsv(String fileCsv, String fileName) throws IOException {
-        FileUtil.createIfMissing(dataDir);
+        return saveAttendanceCsv(writer -> writer.write(fileCsv), fileName);
+    }
+
+    /**
+     * Saves Attendance CSV file into /data, streaming its content through a buffered writer
+     * instead of building it in memory first. A file that fails halfway is deleted.
+     *
+     * @param content Writes the CSV formatted attendance content.
+     * @param fileName The name of the CSV file to be saved.
+     * @return A String of path where the CSV file is saved.
+     * @throws IOException If an error occurs during file saving.
+     */
+    public static String saveAttendanceCsv(CsvContent content, String fileName) throws IOException {
+        Path directory = dataDir;
+        Files.createDirectories(directory);
+        writeCsv(directory, fileName, content);
+        return directory.toAbsolutePath().toString();
+    }
+
+    /**
+     * Saves several Attendance CSV files into /data, writing up to {@link #MAX_PARALLEL_WRITES} of them at a time.
+     * A file that fails to save does not stop the others; each file's outcome is logged as it completes
+     * and returned in the order of {@code files}.
+     *
+     * @param files Writers of the CSV formatted attendance content, by the name of the file to be saved.
+     * @return The outcome of saving each file.
+     * @throws IOException If the data directory cannot be created or saving is interrupted.
+     */
+    public static List<CsvSaveResult> saveAttendanceCsvs(Map<String, CsvContent> files) throws IOException {
+        Path directory = dataDir;
+        Files.createDirectories(directory);
+        if (files.isEmpty()) {
+            return List.of();
+        }
+
+        int threadCount = Math.min(files.size(),
+                Math.min(MAX_PARALLEL_WRITES, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "attendance-report-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        // Create full file path with unique file name
-        String uniqueFileName = getUniqueFileName(dataDir, fileName);
-        Path filePath = dataDir.resolve(uniqueFileName);
+        AtomicInteger completedCount = new AtomicInteger();
+        try {
+            List<Future<CsvSaveResult>> futures = new ArrayList<>();
+            for (Map.Entry<String, CsvContent> file : files.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    CsvSaveResult result = saveQuietly(directory, file.getKey(), file.getValue());
+                    logger.info(String.format("Attendance report %d of %d %s", completedCount.incrementAndGet(),
+                            files.size(), result));
+                    return result;
+                }));
+            }
 
-        FileUtil.writeToFile(filePath, fileCsv);
+            List<CsvSaveResult> results = new ArrayList<>();
+            for (Future<CsvSaveResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving attendance reports", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        return dataDir.toAbsolutePath().toString();
+    private static CsvSaveResult saveQuietly(Path directory, String fileName, CsvContent content) {
+        try {
+            return new CsvSaveResult(fileName, writeCsv(directory, fileName, content), null);
+        } catch (IOException e) {
+            return new CsvSaveResult(fileName, null, e);
+        } catch (RuntimeException e) {
+            return new CsvSaveResult(fileName, null, new IOException(e));
+        }
+    }
+
+    /**
+     * Streams {@code content} into a new file in {@code directory} named after {@code fileName}.
+     * A file that fails halfway is deleted.
+     *
+     * @return The name of the saved file, which differs from {@code fileName} if that was taken.
+     */
+    private static String writeCsv(Path directory, String fileName, CsvContent content) throws IOException {
+        Path filePath = reserveFile(directory, fileName);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+
+        return filePath.getFileName().toString();
+    }
+
+    /**
+     * Creates an empty file in {@code directory} with a unique name based on {@code fileName}.
+     * Synchronized so that files saved in parallel never pick the same name.
+     */
+    private static synchronized Path reserveFile(Path directory, String fileName) throws IOException {
+        Path filePath = directory.resolve(getUniqueFileName(directory, fileName));
+        Files.createFile(filePath);
+        return filePath;
     }
 
     /**
@@ -43,6 +166,49 @@ public class AttendanceCsvStorage {
         dataDir = customDataDir;
     }
 
+    public static Path getDataDirectory() {
+        return dataDir;
+    }
+
+    /**
+     * Outcome of saving one of several attendance CSV files.
+     */
+    public static class CsvSaveResult {
+        private final String fileName;
+        private final String savedFileName;
+        private final IOException error;
+
+        private CsvSaveResult(String fileName, String savedFileName, IOException error) {
+            this.fileName = fileName;
+            this.savedFileName = savedFileName;
+            this.error = error;
+        }
+
+        /** Returns the name the file was requested to be saved under. */
+        public String getFileName() {
+            return fileName;
+        }
+
+        /** Returns the name the file was saved under, or null if it was not saved. */
+        public String getSavedFileName() {
+            return savedFileName;
+        }
+
+        /** Returns why the file was not saved, or null if it was saved. */
+        public IOException getError() {
+            return error;
+        }
+
+        public boolean isSaved() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSaved() ? "saved as " + savedFileName : fileName + " failed: " + error.getMessage();
+        }
+    }
+
     /**
      * Generates a unique file name to prevent overwriting files
      * with the same name.
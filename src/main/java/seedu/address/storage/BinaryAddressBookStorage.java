@@ -0,0 +1,377 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact, versioned binary format on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of every distinct string
+ * in the address book and then the persons. Each person refers to its fields by their index in the string table.
+ * Attendance dates are stored as epoch days, each as the gap from the previous date in ascending order, and the
+ * statuses are packed four to a byte. Integers are written as variable-length quantities.
+ * <p>
+ * Saves are atomic in the same way as {@link JsonAddressBookStorage} saves, and a backup of the previous
+ * file is loaded if the file itself is missing or cannot be loaded.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary address book file, "LLBK". */
+    public static final int MAGIC = 0x4C4C424B;
+    public static final int FORMAT_VERSION = 1;
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary address book is corrupt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int STATUSES_PER_BYTE = 4;
+    private static final int FAVOURITE_FLAG = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that corresponds to the json data file at {@code jsonFilePath},
+     * e.g. {@code data/littlelogbook.bin} for {@code data/littlelogbook.json}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = JsonAddressBookStorage.getBackupFilePath(filePath);
+        boolean hasBackup = Files.exists(backupFilePath);
+
+        if (!Files.exists(filePath)) {
+            if (hasBackup) {
+                logger.warning("Data file " + filePath + " is missing, recovering from " + backupFilePath);
+                return Optional.of(readFile(backupFilePath));
+            }
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            if (!hasBackup) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, recovering from " + backupFilePath);
+            return Optional.of(readFile(backupFilePath));
+        }
+    }
+
+    private static ReadOnlyAddressBook readFile(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            return read(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = JsonAddressBookStorage.getTempFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+            write(addressBook, new DataOutputStream(out));
+            out.flush();
+            channel.force(true);
+            bytesWritten.addAndGet(channel.size());
+        }
+        FileUtil.replaceWithBackup(tempFilePath, filePath, JsonAddressBookStorage.getBackupFilePath(filePath));
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    //// encoding
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        Map<String, Integer> stringTable = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream personsOut = new DataOutputStream(personBytes);
+
+        List<Person> persons = addressBook.getPersonList();
+        writeVarLong(personsOut, persons.size());
+        for (Person person : persons) {
+            writePerson(personsOut, person, stringTable, strings);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeVarLong(out, strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+        personBytes.writeTo(out);
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable,
+            List<String> strings) throws IOException {
+        writeString(out, person.getName().fullName, stringTable, strings);
+        writeString(out, person.getPhone().value, stringTable, strings);
+        writeString(out, person.getEmail().value, stringTable, strings);
+        writeString(out, person.getAddress().value, stringTable, strings);
+        writeString(out, person.getStudentClass().value, stringTable, strings);
+        writeString(out, person.getBirthday().value, stringTable, strings);
+        writeString(out, person.getNote().value, stringTable, strings);
+
+        writeVarLong(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName, stringTable, strings);
+        }
+
+        out.writeByte(person.getIsFavBoolean() ? FAVOURITE_FLAG : 0);
+
+        // Records are in date order, so every gap is positive
+        Map<LocalDate, AttendanceStatus> attendance = person.getAttendance().getAttendanceRecords();
+        writeVarLong(out, attendance.size());
+        long previousEpochDay = 0;
+        for (LocalDate date : attendance.keySet()) {
+            long epochDay = date.toEpochDay();
+            writeVarLong(out, zigZag(epochDay - previousEpochDay));
+            previousEpochDay = epochDay;
+        }
+
+        int packed = 0;
+        int count = 0;
+        for (AttendanceStatus status : attendance.values()) {
+            packed |= status.getCode() << (2 * (count % STATUSES_PER_BYTE));
+            count++;
+            if (count % STATUSES_PER_BYTE == 0) {
+                out.writeByte(packed);
+                packed = 0;
+            }
+        }
+        if (count % STATUSES_PER_BYTE != 0) {
+            out.writeByte(packed);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string, Map<String, Integer> stringTable,
+            List<String> strings) throws IOException {
+        Integer index = stringTable.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringTable.put(string, index);
+            strings.add(string);
+        }
+        writeVarLong(out, index);
+    }
+
+    //// decoding
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if the data is not a binary address book of a supported version, or is corrupt.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ReadOnlyAddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int personCount = readCount(in);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(in, strings));
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    private static Person readPerson(DataInputStream in, String[] strings) throws IOException, IllegalValueException {
+        String name = readString(in, strings);
+        String phone = readString(in, strings);
+        String email = readString(in, strings);
+        String address = readString(in, strings);
+        String studentClass = readString(in, strings);
+        String birthday = readString(in, strings);
+        String note = readString(in, strings);
+
+        int tagCount = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(in, strings)));
+        }
+
+        boolean isFavourite = (in.readUnsignedByte() & FAVOURITE_FLAG) != 0;
+
+        // Field values are checked exactly as they are for the json format
+        Person person = new JsonAdaptedPerson(name, phone, email, address, studentClass, birthday, note, tags,
+                null, isFavourite).toModelType();
+
+        int attendanceCount = readCount(in);
+        long[] epochDays = new long[attendanceCount];
+        long epochDay = 0;
+        for (int i = 0; i < attendanceCount; i++) {
+            epochDay += unZigZag(readVarLong(in));
+            epochDays[i] = epochDay;
+        }
+
+        int packed = 0;
+        for (int i = 0; i < attendanceCount; i++) {
+            if (i % STATUSES_PER_BYTE == 0) {
+                packed = in.readUnsignedByte();
+            }
+            int code = (packed >>> (2 * (i % STATUSES_PER_BYTE))) & 0b11;
+            person.getAttendance().markAttendance(toLocalDate(epochDays[i]), AttendanceStatus.fromCode(code));
+        }
+        return person;
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        long index = readVarLong(in);
+        if (index < 0 || index >= strings.length) {
+            throw new IOException(MESSAGE_CORRUPT_FILE);
+        }
+        return strings[(int) index];
+    }
+
+    private static LocalDate toLocalDate(long epochDay) throws IOException {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (RuntimeException e) {
+            throw new IOException(MESSAGE_CORRUPT_FILE, e);
+        }
+    }
+
+    //// primitives
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, least significant group first.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b == -1) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPT_FILE);
+    }
+
+    /**
+     * Reads a count or length, which must fit in an {@code int}.
+     */
+    private static int readCount(InputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_CORRUPT_FILE);
+        }
+        return (int) count;
+    }
+
+}
@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Each save only appends the persons that changed since the previous save to the journal. Every
+ * {@value #CHECKPOINT_INTERVAL} saves, the journal is compacted into a fresh snapshot.
+ * On reading, the snapshot is loaded and the journal replayed on top of it.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal entries after which the journal is compacted into the snapshot. */
+    public static final int CHECKPOINT_INTERVAL = 100;
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** Persons as last written to the snapshot and journal, in list order. Null if unknown. */
+    private List<Person> persistedPersons;
+    /** Revision of each person in {@code persistedPersons} at the time it was written. */
+    private final Map<Person, Integer> persistedRevisions = new IdentityHashMap<>();
+    /** Whether the journal on disk can be appended to, i.e. it builds on the current snapshot and is intact. */
+    private boolean isJournalAppendable = false;
+    private int entriesSinceCheckpoint = 0;
+    /** Bytes appended to the journal or written to its header; snapshot bytes are counted by the snapshot storage. */
+    private final AtomicLong journalBytesWritten = new AtomicLong();
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with the snapshot at {@code filePath}.
+     * The journal is kept next to it, with the same file name followed by {@value #JOURNAL_FILE_EXTENSION}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Similar to {@link #JournalAddressBookStorage(Path)}, with snapshots saved atomically if {@code isAtomicSave}
+     * is true.
+     *
+     * @see JsonAddressBookStorage#JsonAddressBookStorage(Path, boolean)
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isAtomicSave) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isAtomicSave);
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from this storage's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshot;
+        }
+
+        if (!snapshot.isPresent()) {
+            isJournalAppendable = false;
+            persistedPersons = null;
+            return snapshot;
+        }
+
+        // A missing snapshot was recovered from its backup. If saving stopped between moving the snapshot to the
+        // backup and moving the new one in, the journal still builds on the backup and its checksum matches.
+        boolean isRecovered = !Files.exists(filePath);
+        Path snapshotFilePath = isRecovered ? JsonAddressBookStorage.getBackupFilePath(filePath) : filePath;
+        long snapshotChecksum;
+        try {
+            snapshotChecksum = checksumOf(snapshotFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + snapshotFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        // The journal cannot be appended to while the snapshot is missing, so the next save checkpoints
+        isJournalAppendable = replayJournal(persons, snapshotChecksum) && !isRecovered;
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            logger.info("Journal " + journalFilePath + " produced duplicate persons");
+            throw new DataLoadingException(e);
+        }
+
+        rememberPersisted(persons);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries of the journal to {@code persons}, if the journal builds on the snapshot with
+     * checksum {@code snapshotChecksum}. A stale journal is ignored, and a torn last entry is dropped.
+     *
+     * @return true if the whole journal was replayed and more entries can be appended to it.
+     * @throws DataLoadingException if an entry could not be applied.
+     */
+    private boolean replayJournal(List<Person> persons, long snapshotChecksum) throws DataLoadingException {
+        entriesSinceCheckpoint = 0;
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            JsonJournalEntry header = headerLine == null ? null : parseEntry(headerLine);
+            if (header == null || header.getBase() == null || header.getBase() != snapshotChecksum) {
+                logger.info("Journal " + journalFilePath + " does not match the snapshot, ignoring it.");
+                return false;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonJournalEntry entry = parseEntry(line);
+                if (entry == null) {
+                    logger.warning("Journal " + journalFilePath + " ends with an incomplete entry, ignoring it.");
+                    return false;
+                }
+                for (JsonAdaptedJournalOp op : entry.getOps()) {
+                    op.applyTo(persons);
+                }
+                entriesSinceCheckpoint++;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        logger.info("Replayed " + entriesSinceCheckpoint + " journal entries from " + journalFilePath);
+        return true;
+    }
+
+    /**
+     * Returns the journal entry on {@code line}, or null if the line is not a complete entry.
+     */
+    private static JsonJournalEntry parseEntry(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any path other than this storage's own file path writes a plain snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<List<JsonAdaptedJournalOp>> ops = isJournalAppendable && persistedPersons != null
+                ? diff(persistedPersons, persons)
+                : Optional.empty();
+
+        if (!ops.isPresent() || ops.get().size() > persons.size() / 2
+                || entriesSinceCheckpoint >= CHECKPOINT_INTERVAL) {
+            checkpoint(addressBook);
+            return;
+        }
+
+        if (ops.get().isEmpty()) {
+            return;
+        }
+
+        appendToJournal(JsonUtil.toCompactJsonString(JsonJournalEntry.batch(ops.get())));
+        entriesSinceCheckpoint++;
+        rememberPersisted(persons);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal on top of it.
+     */
+    public void checkpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        isJournalAppendable = false;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        String header = JsonUtil.toCompactJsonString(JsonJournalEntry.header(checksumOf(filePath)))
+                + System.lineSeparator();
+        FileUtil.writeToFile(journalFilePath, header);
+        journalBytesWritten.addAndGet(header.getBytes(StandardCharsets.UTF_8).length);
+        isJournalAppendable = true;
+        entriesSinceCheckpoint = 0;
+        rememberPersisted(addressBook.getPersonList());
+        logger.fine("Checkpointed address book to " + filePath);
+    }
+
+    /**
+     * Returns the changes that turn {@code oldPersons} into {@code newPersons}, or {@code Optional.empty()} if
+     * the surviving persons were reordered, in which case only a snapshot can record the new order.
+     * Persons are matched by reference; a person whose revision moved on since it was persisted is updated.
+     */
+    private Optional<List<JsonAdaptedJournalOp>> diff(List<Person> oldPersons, List<Person> newPersons) {
+        Set<Person> newRefs = Collections.newSetFromMap(new IdentityHashMap<>());
+        newRefs.addAll(newPersons);
+
+        List<JsonAdaptedJournalOp> ops = new ArrayList<>();
+        List<Person> survivors = new ArrayList<>();
+        for (int i = oldPersons.size() - 1; i >= 0; i--) {
+            Person oldPerson = oldPersons.get(i);
+            if (newRefs.contains(oldPerson)) {
+                survivors.add(oldPerson);
+            } else {
+                ops.add(JsonAdaptedJournalOp.remove(i));
+            }
+        }
+        Collections.reverse(survivors);
+
+        int survivorIndex = 0;
+        List<JsonAdaptedJournalOp> updates = new ArrayList<>();
+        for (int i = 0; i < newPersons.size(); i++) {
+            Person newPerson = newPersons.get(i);
+            Integer persistedRevision = persistedRevisions.get(newPerson);
+            if (persistedRevision == null) {
+                ops.add(JsonAdaptedJournalOp.insert(i, newPerson));
+                continue;
+            }
+            if (survivors.get(survivorIndex++) != newPerson) {
+                return Optional.empty();
+            }
+            if (persistedRevision != newPerson.getRevision()) {
+                updates.add(JsonAdaptedJournalOp.update(i, newPerson));
+            }
+        }
+
+        ops.addAll(updates);
+        return Optional.of(ops);
+    }
+
+    private void appendToJournal(String line) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.newLine();
+        }
+        journalBytesWritten.addAndGet((line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return snapshotStorage.getBytesWritten() + journalBytesWritten.get();
+    }
+
+    private void rememberPersisted(List<Person> persons) {
+        persistedPersons = new ArrayList<>(persons);
+        persistedRevisions.clear();
+        for (Person person : persons) {
+            persistedRevisions.put(person, person.getRevision());
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code file}.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+}
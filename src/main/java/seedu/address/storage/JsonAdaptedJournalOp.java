@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change made to the person list, as recorded in the journal.
+ * Positions refer to the person list as it is right before the change is applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalOp {
+
+    public static final String OP_INSERT = "insert";
+    public static final String OP_UPDATE = "update";
+    public static final String OP_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_OP = "Journal contains an invalid change: %s at %s";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalOp} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalOp(@JsonProperty("op") String op,
+                                @JsonProperty("index") Integer index,
+                                @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a change that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalOp insert(int index, Person person) {
+        return new JsonAdaptedJournalOp(OP_INSERT, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a change that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalOp update(int index, Person person) {
+        return new JsonAdaptedJournalOp(OP_UPDATE, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a change that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalOp remove(int index) {
+        return new JsonAdaptedJournalOp(OP_REMOVE, index, null);
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code persons} or the recorded person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null || index == null || index < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OP, op, index));
+        }
+
+        switch (op) {
+        case OP_INSERT:
+            if (person == null || index > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OP, op, index));
+            }
+            persons.add(index, person.toModelType());
+            break;
+        case OP_UPDATE:
+            if (person == null || index >= persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OP, op, index));
+            }
+            persons.set(index, person.toModelType());
+            break;
+        case OP_REMOVE:
+            if (index >= persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OP, op, index));
+            }
+            persons.remove((int) index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OP, op, index));
+        }
+    }
+}
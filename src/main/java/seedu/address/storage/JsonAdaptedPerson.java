@@ -113,6 +113,9 @@ class JsonAdaptedPerson {
         for (Map.Entry<String, String> entry : attendance.entrySet()) {
             LocalDate date = LocalDate.parse(entry.getKey());
             AttendanceStatus status = AttendanceStatus.valueOf(entry.getValue());
+            if (status == AttendanceStatus.REMOVE) {
+                throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+            }
             modelAttendance.markAttendance(date, status);
         }
 
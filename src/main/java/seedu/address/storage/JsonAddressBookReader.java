@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an AddressBook from the JSON format written by {@link JsonSerializableAddressBook}, one person at a time.
+ * Each element of {@code persons} is converted to a {@code Person} as soon as it is parsed and its
+ * {@link JsonAdaptedPerson} is then dropped, so neither the file contents nor the full list of adapted persons
+ * are ever held in memory.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data is not a JSON object";
+    public static final String MESSAGE_PERSONS_NOT_AN_ARRAY = "Persons of the address book are not a JSON array";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book stored in the file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads the address book from {@code in}. The stream is not closed.
+     *
+     * @throws IOException if the stream could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        List<Person> persons = new ArrayList<>();
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            // The caller owns the stream, so closing the parser must leave it open
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("persons".equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    readPersons(parser, persons);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Converts each element of the {@code persons} array the parser is positioned on and adds it to {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_PERSONS_NOT_AN_ARRAY);
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null) {
+                throw new JsonParseException(parser, MESSAGE_PERSONS_NOT_AN_ARRAY);
+            }
+            persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+}
@@ -3,28 +3,61 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * With atomic saves, the data file is never overwritten in place. Each save is written to a temporary file next to
+ * it, which then replaces the data file in one step, and the replaced data file is kept as a backup. If the data file
+ * is missing or cannot be loaded, the backup is loaded instead.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isAtomicSave;
+    private final AtomicLong bytesWritten = new AtomicLong();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}, which is saved atomically
+     * and recovered from its backup if {@code isAtomicSave} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isAtomicSave) {
         this.filePath = filePath;
+        this.isAtomicSave = isAtomicSave;
+    }
+
+    /**
+     * Returns the path of the backup that atomic saves keep of the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the temporary file that atomic saves write before it replaces the data file at
+     * {@code filePath}.
+     */
+    public static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +71,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed, so only one person's JSON is held in memory at a time.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +79,36 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Path backupFilePath = getBackupFilePath(filePath);
+        boolean hasBackup = isAtomicSave && Files.exists(backupFilePath);
+
+        if (!Files.exists(filePath)) {
+            if (hasBackup) {
+                logger.warning("Data file " + filePath + " is missing, recovering from " + backupFilePath);
+                return Optional.of(readFile(backupFilePath));
+            }
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            if (!hasBackup) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, recovering from " + backupFilePath);
+            return Optional.of(readFile(backupFilePath));
+        }
+    }
+
+    private static ReadOnlyAddressBook readFile(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return JsonAddressBookReader.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +122,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are streamed to the file as compact JSON, one at a time.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +130,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!isAtomicSave) {
+            FileUtil.createIfMissing(filePath);
+            bytesWritten.addAndGet(JsonAddressBookWriter.write(addressBook, filePath));
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = getTempFilePath(filePath);
+        bytesWritten.addAndGet(JsonAddressBookWriter.write(addressBook, tempFilePath, true));
+        FileUtil.replaceWithBackup(tempFilePath, filePath, getBackupFilePath(filePath));
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
     }
 
 }
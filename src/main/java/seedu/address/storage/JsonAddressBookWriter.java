@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook in the JSON format read by {@link JsonAddressBookReader}.
+ * Each {@code Person} is written straight to a buffered generator, without building a {@link JsonAdaptedPerson}
+ * or rendering the document into a string first.
+ */
+class JsonAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     * The parent directories of the file must already exist.
+     *
+     * @return the number of bytes written.
+     */
+    public static long write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        return write(addressBook, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path)}.
+     * If {@code isDurable} is true, this only returns once the contents have reached the storage device.
+     */
+    public static long write(ReadOnlyAddressBook addressBook, Path filePath, boolean isDurable) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+            write(addressBook, out);
+            if (isDurable) {
+                channel.force(true);
+            }
+            return channel.size();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}. The stream is flushed but not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        JsonGenerator generator = JsonUtil.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(generator, person);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * Writes {@code person} with the same fields as {@link JsonAdaptedPerson}.
+     */
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeStringField("studentClass", person.getStudentClass().value);
+        generator.writeStringField("birthday", person.getBirthday().value);
+        generator.writeStringField("note", person.getNote().value);
+
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+
+        generator.writeObjectFieldStart("attendance");
+        Attendance attendance = person.getAttendance();
+        if (attendance != null) {
+            for (Map.Entry<LocalDate, AttendanceStatus> entry : attendance.getAttendanceRecords().entrySet()) {
+                generator.writeStringField(entry.getKey().toString(), entry.getValue().toString());
+            }
+        }
+        generator.writeEndObject();
+
+        generator.writeBooleanField("favourite", person.getIsFavBoolean());
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One line of the address book journal.
+ * The first line of a journal is a header that only carries the checksum of the snapshot the journal builds on;
+ * every following line holds the changes made by one save, which are replayed together.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    private final Long base;
+    private final List<JsonAdaptedJournalOp> ops = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given snapshot checksum and changes.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("base") Long base,
+                            @JsonProperty("ops") List<JsonAdaptedJournalOp> ops) {
+        this.base = base;
+        if (ops != null) {
+            this.ops.addAll(ops);
+        }
+    }
+
+    /**
+     * Returns a header entry for a journal that builds on the snapshot with checksum {@code base}.
+     */
+    public static JsonJournalEntry header(long base) {
+        return new JsonJournalEntry(base, null);
+    }
+
+    /**
+     * Returns an entry holding the changes made by one save.
+     */
+    public static JsonJournalEntry batch(List<JsonAdaptedJournalOp> ops) {
+        return new JsonJournalEntry(null, ops);
+    }
+
+    public Long getBase() {
+        return base;
+    }
+
+    public List<JsonAdaptedJournalOp> getOps() {
+        return ops;
+    }
+}
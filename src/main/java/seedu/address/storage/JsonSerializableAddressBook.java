@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,7 +20,7 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains %d duplicate person(s): %s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,19 +43,41 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are loaded in one go, so that duplicates are found in a single pass and all of them are reported.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons}, loaded in a single pass.
+     *
+     * @throws IllegalValueException listing every duplicate person, if there are any.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(getDuplicatePersonMessage(e.getDuplicates()));
         }
         return addressBook;
     }
 
+    /**
+     * Returns the error message listing the names of {@code duplicates}.
+     */
+    private static String getDuplicatePersonMessage(List<Person> duplicates) {
+        String names = duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_DUPLICATE_PERSON, duplicates.size(), names);
+    }
+
 }
@@ -29,4 +29,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book handed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written.
+     *
+     * @throws IOException if the latest save failed and the failure has not been reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the failure of the latest save that ran in the background, if it has not been reported yet.
+     * The failure is reported only once.
+     */
+    Optional<IOException> pollSaveFailure();
+
 }
@@ -13,19 +13,35 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * In write-behind mode, saves to the address book file are snapshotted and written on a background thread.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final WriteBehindAddressBookSaver writeBehindSaver;
+
+    // The address book, and its modification version, that was last saved to the address book file
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private long lastSavedVersion;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which saves the address book in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writeBehindSaver = isWriteBehind ? new WriteBehindAddressBookSaver(addressBookStorage) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -69,10 +85,64 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving the same address book to the address book file again is skipped if it has not been modified since.
+     * In write-behind mode, a save to the address book file returns before the file is written; failures are
+     * reported by {@link #pollSaveFailure()}. Saves to any other file are always written straight away.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        boolean isAddressBookFile = filePath.equals(addressBookStorage.getAddressBookFilePath());
+        if (isAddressBookFile && addressBook == lastSavedAddressBook
+                && addressBook.getModificationVersion() == lastSavedVersion) {
+            logger.fine("Data file is up to date, skipping write: " + filePath);
+            return;
+        }
+
+        if (writeBehindSaver != null && isAddressBookFile) {
+            logger.fine("Scheduling write to data file: " + filePath);
+            writeBehindSaver.submit(addressBook);
+        } else {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+
+        if (isAddressBookFile) {
+            lastSavedAddressBook = addressBook;
+            lastSavedVersion = addressBook.getModificationVersion();
+        }
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writeBehindSaver == null) {
+            return;
+        }
+        try {
+            writeBehindSaver.flush();
+        } catch (IOException e) {
+            lastSavedAddressBook = null;
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<IOException> pollSaveFailure() {
+        if (writeBehindSaver == null) {
+            return Optional.empty();
+        }
+        Optional<IOException> failure = writeBehindSaver.pollFailure();
+        if (failure.isPresent()) {
+            // The data file may be behind the address book, so the next save must not be skipped
+            lastSavedAddressBook = null;
+        }
+        return failure;
     }
 
 }
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address books on a background thread, shortly after they are submitted.
+ * Submitting takes a snapshot of the address book on the caller's thread, so the caller may keep changing it.
+ * Snapshots submitted before the pending one is written replace it, so a burst of commands results in one write.
+ */
+class WriteBehindAddressBookSaver {
+
+    /** How long a submitted snapshot waits for newer ones before it is written. */
+    public static final long COALESCE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ScheduledExecutorService writer;
+
+    /** The latest snapshot that has not been written yet, or null if there is none. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    /** The failure of the latest write, or null if it succeeded or the failure was already reported. */
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+
+    /**
+     * Copies made for the previous snapshot, by the person they were copied from. Only used on the submitting thread.
+     * Persons that did not change since are reused, so unchanged persons keep their identity across snapshots.
+     */
+    private Map<Person, PersonCopy> previousCopies = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code WriteBehindAddressBookSaver} that writes through {@code addressBookStorage}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Snapshots {@code addressBook} and schedules the snapshot to be written to the storage's file path.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingSnapshot.getAndSet(snapshotOf(addressBook)) == null) {
+            writer.schedule(this::writePendingSnapshot, COALESCE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and waits for it to be written.
+     *
+     * @throws IOException if the latest write failed and the failure has not been reported yet.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data file to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        Optional<IOException> failure = pollFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Returns the failure of the latest write if it has not been reported yet, and marks it as reported.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(lastFailure.getAndSet(null));
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+            lastFailure.set(null);
+        } catch (IOException e) {
+            logger.warning("Failed to save data file " + addressBookStorage.getAddressBookFilePath() + ": " + e);
+            lastFailure.set(e);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to it.
+     * The copy only lists the persons, without the indexes of an {@code AddressBook}, as it is only written out.
+     */
+    private ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        Map<Person, PersonCopy> copies = new IdentityHashMap<>();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            PersonCopy copy = previousCopies.get(person);
+            if (copy == null || copy.revision != person.getRevision()) {
+                copy = new PersonCopy(person);
+            }
+            copies.put(person, copy);
+            persons.add(copy.person);
+        }
+        previousCopies = copies;
+
+        return new Snapshot(persons, addressBook.getModificationVersion());
+    }
+
+    /**
+     * The persons of an address book at some modification version.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long modificationVersion;
+
+        Snapshot(List<Person> persons, long modificationVersion) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            this.modificationVersion = modificationVersion;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getModificationVersion() {
+            return modificationVersion;
+        }
+    }
+
+    /**
+     * A copy of a person, along with the revision of the person it was copied at.
+     */
+    private static class PersonCopy {
+        private final Person person;
+        private final int revision;
+
+        PersonCopy(Person source) {
+            this.person = source.copy();
+            this.revision = source.getRevision();
+        }
+    }
+
+}
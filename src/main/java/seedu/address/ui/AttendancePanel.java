@@ -2,7 +2,6 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.Map;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -149,11 +148,14 @@ public class AttendancePanel extends UiPart<VBox> {
         attendanceGrid.getChildren().removeIf(node ->
                 GridPane.getRowIndex(node) != null && GridPane.getRowIndex(node) > 0);
 
-        Map<LocalDate, AttendanceStatus> monthlyRecords = attendance.getAttendanceRecordsForMonth(currentDisplayMonth);
-
         LocalDate firstDay = currentDisplayMonth.atDay(1);
         int daysInMonth = currentDisplayMonth.lengthOfMonth();
 
+        // Only the records within the month are read
+        AttendanceStatus[] dailyStatuses = new AttendanceStatus[daysInMonth + 1];
+        attendance.getAttendanceRecordsForMonth(currentDisplayMonth)
+                .forEach((date, status) -> dailyStatuses[date.getDayOfMonth()] = status);
+
         // Calculate the day of week for the first day (0 = Sunday, 1 = Monday, ..., 6 = Saturday)
         int firstDayOfWeek = firstDay.getDayOfWeek().getValue() % 7; // Convert to Sunday-start week
 
@@ -170,8 +172,7 @@ public class AttendancePanel extends UiPart<VBox> {
 
         // Add cells for each day of the month
         for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate currentDate = currentDisplayMonth.atDay(day);
-            AttendanceStatus status = monthlyRecords.get(currentDate);
+            AttendanceStatus status = dailyStatuses[day];
             String statusString = (status != null) ? status.toString().toLowerCase() : "";
 
             Label dayLabel = createDayLabel(day, statusString);
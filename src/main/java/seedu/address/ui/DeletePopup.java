@@ -86,8 +86,7 @@ public class DeletePopup extends UiPart<Stage> {
                     setGraphic(null);
                     setText(null);
                 } else {
-                    int index = matchingResults.indexOf(person) + 1;
-                    setGraphic(new PersonCard(person, index).getRoot());
+                    setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
                 }
             }
         });
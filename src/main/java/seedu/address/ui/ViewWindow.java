@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.time.YearMonth;
 import java.util.Comparator;
 
 import javafx.fxml.FXML;
@@ -51,6 +52,8 @@ public class ViewWindow extends UiPart<Stage> {
     private VBox attendanceSection;
     @FXML
     private VBox attendanceContainer;
+    @FXML
+    private Label attendanceSummaryLabel;
 
     // Layout containers
     @FXML
@@ -209,6 +212,7 @@ public class ViewWindow extends UiPart<Stage> {
 
         if (person.isStudent()) {
             attendancePanel.setAttendance(person.getAttendance());
+            attendanceSummaryLabel.setText(person.getAttendance().getStatistics().formatSummary(YearMonth.now()));
         } else {
             attendancePanel.setAttendance(null);
         }
@@ -302,6 +306,7 @@ public class ViewWindow extends UiPart<Stage> {
         tags.getChildren().clear();
         notesArea.setText("");
         attendancePanel.setAttendance(null);
+        attendanceSummaryLabel.setText("");
 
         // Reset layout to default state
         contactInfoSection.setVisible(false);
@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", writeBehindEnabled=" + config.isWriteBehindEnabled()
+                + ", atomicSaveEnabled=" + config.isAtomicSaveEnabled()
+                + ", binaryStorageEnabled=" + config.isBinaryStorageEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
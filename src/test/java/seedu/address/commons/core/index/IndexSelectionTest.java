@@ -0,0 +1,115 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static Index one(int oneBasedIndex) {
+        return Index.fromOneBased(oneBasedIndex);
+    }
+
+    /**
+     * Returns the selection of the ranges given as pairs of one-based first and last indexes.
+     */
+    private static IndexSelection ranges(int... bounds) {
+        IndexSelection.Builder builder = new IndexSelection.Builder();
+        for (int i = 0; i < bounds.length; i += 2) {
+            builder.addRange(one(bounds[i]), one(bounds[i + 1]));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void build_overlappingAndAdjacentRanges_merged() {
+        IndexSelection selection = new IndexSelection.Builder()
+                .addRange(one(10), one(20))
+                .add(one(3))
+                .addRange(one(15), one(25))
+                .addRange(one(1), one(2))
+                .add(one(26))
+                .add(one(40))
+                .build();
+
+        assertEquals(3, selection.getIntervalCount());
+        assertEquals(one(1), selection.getIntervalStart(0));
+        assertEquals(one(3), selection.getIntervalEnd(0));
+        assertEquals(one(10), selection.getIntervalStart(1));
+        assertEquals(one(26), selection.getIntervalEnd(1));
+        assertEquals(one(40), selection.getIntervalStart(2));
+        assertEquals(3 + 17 + 1, selection.size());
+        assertEquals(IndexSelection.of(one(1), one(2), one(3)), IndexSelection.range(one(1), one(3)));
+    }
+
+    @Test
+    public void addRange_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexSelection.Builder().addRange(one(3), one(2)));
+    }
+
+    @Test
+    public void iterator_ascendingOrder() {
+        List<Index> indexes = new ArrayList<>();
+        IndexSelection.of(one(7), one(2), one(3), one(5)).forEach(indexes::add);
+        assertEquals(List.of(one(2), one(3), one(5), one(7)), indexes);
+
+        assertFalse(IndexSelection.of().iterator().hasNext());
+        assertTrue(IndexSelection.of().isEmpty());
+    }
+
+    @Test
+    public void contains() {
+        IndexSelection selection = ranges(2, 4, 8, 8, 100, 50000);
+
+        assertFalse(selection.contains(one(1)));
+        assertTrue(selection.contains(one(2)));
+        assertTrue(selection.contains(one(4)));
+        assertFalse(selection.contains(one(5)));
+        assertTrue(selection.contains(one(8)));
+        assertFalse(selection.contains(one(99)));
+        assertTrue(selection.contains(one(12345)));
+        assertFalse(selection.contains(one(50001)));
+    }
+
+    @Test
+    public void getFirstOutOfBounds() {
+        IndexSelection selection = ranges(2, 4, 8, 10);
+
+        assertEquals(Optional.empty(), selection.getFirstOutOfBounds(10));
+        assertEquals(Optional.of(one(10)), selection.getFirstOutOfBounds(9));
+        assertEquals(Optional.of(one(8)), selection.getFirstOutOfBounds(5));
+        assertEquals(Optional.of(one(4)), selection.getFirstOutOfBounds(3));
+        assertEquals(Optional.of(one(2)), selection.getFirstOutOfBounds(0));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = IndexSelection.range(one(1), one(3));
+
+        // same values -> returns true
+        assertTrue(selection.equals(IndexSelection.of(one(3), one(1), one(2), one(2))));
+        assertEquals(selection.hashCode(), IndexSelection.of(one(3), one(1), one(2)).hashCode());
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different values -> returns false
+        assertFalse(selection.equals(IndexSelection.of(one(1), one(3))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = IndexSelection.class.getCanonicalName() + "{oneBasedIndexes=1-3,5}";
+        assertEquals(expected, IndexSelection.of(one(1), one(2), one(3), one(5)).toString());
+    }
+}
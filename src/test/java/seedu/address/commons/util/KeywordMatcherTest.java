@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () ->
+                new KeywordMatcher(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", () ->
+                new KeywordMatcher(List.of("aaa bbb")));
+    }
+
+    @Test
+    public void matches() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of(" ALi ", "bob"));
+
+        // word contains a keyword, ignoring case -> returns true
+        assertTrue(matcher.matches(KeywordMatcher.fold("Alice")));
+        assertTrue(matcher.matches("bobby"));
+
+        // no keyword in word -> returns false
+        assertFalse(matcher.matches("carol"));
+        assertFalse(new KeywordMatcher(List.of()).matches("alice"));
+    }
+
+    @Test
+    public void matchesAny() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("pau"));
+        assertTrue(matcher.matchesAny(List.of("alice", "pauline")));
+        assertFalse(matcher.matchesAny(List.of("alice", "meier")));
+        assertFalse(matcher.matchesAny(List.of()));
+    }
+}
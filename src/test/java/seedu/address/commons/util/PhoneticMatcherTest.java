@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticMatcherTest {
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new PhoneticMatcher(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () ->
+                new PhoneticMatcher(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", () ->
+                new PhoneticMatcher(List.of("aaa bbb")));
+    }
+
+    @Test
+    public void encode() {
+        assertEquals("r163", PhoneticMatcher.encode("robert"));
+        assertEquals("r163", PhoneticMatcher.encode("rupert"));
+        assertEquals("a261", PhoneticMatcher.encode("ashcraft"));
+        assertEquals("t522", PhoneticMatcher.encode("tymczak"));
+        assertEquals("p236", PhoneticMatcher.encode("pfister"));
+        assertEquals("l000", PhoneticMatcher.encode("lee"));
+        assertEquals("o256", PhoneticMatcher.encode("o'connor"));
+
+        // accents dropped
+        assertEquals(PhoneticMatcher.encode("zoe"), PhoneticMatcher.encode("zoë"));
+
+        // no letters from a to z -> empty code
+        assertEquals("", PhoneticMatcher.encode("-"));
+    }
+
+    @Test
+    public void encodeAll() {
+        assertEquals(List.of("s530", "j500"), PhoneticMatcher.encodeAll(List.of("smith", "-", "john", "smyth")));
+    }
+
+    @Test
+    public void matches() {
+        PhoneticMatcher matcher = new PhoneticMatcher(List.of("Smith", "-"));
+        assertEquals(Set.of("s530"), matcher.getKeywordCodes());
+
+        // sound-alike words -> returns true
+        assertTrue(matcher.matches("smyth"));
+        assertTrue(matcher.matches("schmidt"));
+        assertTrue(matcher.matchesAnyCode(List.of("j500", "s530")));
+
+        // different sounds -> returns false
+        assertFalse(matcher.matches("smart"));
+        assertFalse(matcher.matches("-"));
+        assertFalse(matcher.matchesAnyCode(List.of()));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramMatcherTest {
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new TrigramMatcher(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () ->
+                new TrigramMatcher(List.of("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", () ->
+                new TrigramMatcher(List.of("aaa bbb")));
+    }
+
+    @Test
+    public void trigramsOf() {
+        assertEquals(Set.of("  t", " ta", "tan", "an "), TrigramMatcher.trigramsOf("tan"));
+        assertEquals(Set.of("  a", " aa", "aaa", "aa "), TrigramMatcher.trigramsOf("aaaa"));
+    }
+
+    @Test
+    public void score() {
+        TrigramMatcher matcher = new TrigramMatcher(List.of("Aisyah", "NGUYEN"));
+
+        assertEquals(1.0, matcher.score("aisyah"));
+        assertEquals(8.0 / 14, matcher.score("aishah"));
+        assertEquals(6.0 / 14, matcher.score("ngyuen"));
+        assertEquals(0.0, matcher.score("bob"));
+        assertEquals(8.0 / 14, matcher.scoreAny(List.of("bob", "aishah")));
+    }
+
+    @Test
+    public void matches() {
+        TrigramMatcher matcher = new TrigramMatcher(List.of("Aisyah", "NGUYEN"));
+
+        // misspelt words -> returns true
+        assertTrue(matcher.matches("aishah"));
+        assertTrue(matcher.matches("ngyuen"));
+        assertTrue(matcher.matchesAny(List.of("tan", "aisya")));
+
+        // different words -> returns false
+        assertFalse(matcher.matches("ahmad"));
+        assertFalse(matcher.matchesAny(List.of()));
+        assertFalse(new TrigramMatcher(List.of()).matches("aisyah"));
+    }
+}
@@ -8,23 +8,31 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -340,6 +348,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean markAttendance(Person target, LocalDate date, AttendanceStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean unmarkAttendance(Person target, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int markAttendance(Person target, List<LocalDate> dates, AttendanceStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int unmarkAttendance(Person target, List<LocalDate> dates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFavourite(Person target, boolean isFavourite) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceStatistics getClassAttendanceStatistics(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getStudentsInClass(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInClass(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameWordContaining(String text) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameWordSoundingLike(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Class> getClasses() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -361,17 +444,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
+        public boolean isInFilteredPersonList(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateFilteredPersonListCumulative(Predicate<Person> newPredicate) {
+        public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ArrayList<Index> retrieveInitialFavList() {
+        public void updateFilteredPersonListCumulative(Predicate<Person> newPredicate) {
             throw new AssertionError("This method should not be called.");
         }
     }
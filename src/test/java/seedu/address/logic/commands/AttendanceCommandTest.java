@@ -8,24 +8,29 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
 
 public class AttendanceCommandTest {
 
@@ -39,19 +44,19 @@ public class AttendanceCommandTest {
     @Test
     public void constructor_nullIndexes_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                new AttendanceCommand(null, LocalDate.now(), AttendanceStatus.PRESENT));
+                new AttendanceCommand((IndexSelection) null, LocalDate.now(), AttendanceStatus.PRESENT));
     }
 
     @Test
     public void constructor_nullDate_throwsNullPointerException() {
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         assertThrows(NullPointerException.class, () ->
                 new AttendanceCommand(indexes, null, AttendanceStatus.PRESENT));
     }
 
     @Test
     public void constructor_nullStatus_throwsNullPointerException() {
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         assertThrows(NullPointerException.class, () ->
                 new AttendanceCommand(indexes, LocalDate.now(), null));
     }
@@ -60,7 +65,7 @@ public class AttendanceCommandTest {
     public void execute_emptyContactList_throwsCommandException() {
         Model newModel = new ModelManager();
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
 
         AttendanceCommand command = new AttendanceCommand(indexes, LocalDate.now(), AttendanceStatus.PRESENT);
 
@@ -72,7 +77,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.of(2024, 1, 1);
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.PRESENT);
 
@@ -91,7 +96,7 @@ public class AttendanceCommandTest {
         model.addPerson(student1);
         model.addPerson(student2);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
         LocalDate date = LocalDate.of(2024, 1, 1);
 
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.ABSENT);
@@ -109,8 +114,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
 
         LocalDate futureDate = LocalDate.now().plusDays(1);
         AttendanceCommand command = new AttendanceCommand(indexes, futureDate, AttendanceStatus.LATE);
@@ -126,7 +130,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate beforeBirthday = LocalDate.of(2024, 1, 1).minusDays(1);
         AttendanceCommand command = new AttendanceCommand(indexes, beforeBirthday, AttendanceStatus.LATE);
 
@@ -140,7 +144,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-1900").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate sixYearsAfterBirthday = LocalDate.of(1906, 1, 1);
         String dateStr = sixYearsAfterBirthday.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
         AttendanceCommand command = new AttendanceCommand(indexes, sixYearsAfterBirthday, AttendanceStatus.ABSENT);
@@ -155,7 +159,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-1900").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate sixYearsAfterBirthday = LocalDate.of(1906, 1, 2);
         String dateStr = sixYearsAfterBirthday.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
         AttendanceCommand command = new AttendanceCommand(indexes, sixYearsAfterBirthday, AttendanceStatus.ABSENT);
@@ -170,7 +174,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-1900").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate sixYearsAfterBirthday = LocalDate.of(1907, 1, 1);
         String dateStr = sixYearsAfterBirthday.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
         AttendanceCommand command = new AttendanceCommand(indexes, sixYearsAfterBirthday, AttendanceStatus.ABSENT);
@@ -185,7 +189,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-1900").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate beforeBirthday = LocalDate.of(1900, 1, 1).minusDays(1);
         AttendanceCommand command = new AttendanceCommand(indexes, beforeBirthday, AttendanceStatus.LATE);
 
@@ -199,7 +203,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate pastDate = LocalDate.now().minusDays(1);
         String pastDateStr = pastDate.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
         AttendanceCommand command = new AttendanceCommand(indexes, pastDate, AttendanceStatus.SICK);
@@ -214,7 +218,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
         String dateStr = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
 
@@ -232,7 +236,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
 
         student1.markAttendance(date, AttendanceStatus.PRESENT);
@@ -248,7 +252,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
         String dateStr = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
 
@@ -266,7 +270,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
 
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.REMOVE);
@@ -279,7 +283,7 @@ public class AttendanceCommandTest {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
         model.addPerson(student1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
         String dateStr = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
 
@@ -298,7 +302,7 @@ public class AttendanceCommandTest {
                 .withBirthday("01-01-2024").build();
         model.addPerson(colleague1);
 
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.now();
 
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.PRESENT);
@@ -317,7 +321,7 @@ public class AttendanceCommandTest {
 
         LocalDate date = LocalDate.of(2024, 1, 1);
         String dateStr = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
 
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.SICK);
         CommandResult result = command.execute(model);
@@ -335,7 +339,7 @@ public class AttendanceCommandTest {
         model.addPerson(student1);
 
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
-        Set<Index> indexes = Set.of(outOfBoundIndex);
+        IndexSelection indexes = IndexSelection.of(outOfBoundIndex);
         AttendanceCommand command = new AttendanceCommand(indexes, LocalDate.now(), AttendanceStatus.PRESENT);
 
         assertThrows(CommandException.class,
@@ -349,7 +353,7 @@ public class AttendanceCommandTest {
         model.addPerson(student1);
 
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON, outOfBoundIndex);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON, outOfBoundIndex);
         AttendanceCommand command = new AttendanceCommand(indexes, LocalDate.now(), AttendanceStatus.PRESENT);
 
         assertThrows(CommandException.class, () -> command.execute(model));
@@ -357,7 +361,7 @@ public class AttendanceCommandTest {
 
     @Test
     public void execute_nullModel_throwsNullPointerException() {
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         AttendanceCommand command = new AttendanceCommand(indexes, LocalDate.now(), AttendanceStatus.PRESENT);
 
         assertThrows(NullPointerException.class, () -> command.execute(null));
@@ -365,8 +369,8 @@ public class AttendanceCommandTest {
 
     @Test
     public void equals() {
-        Set<Index> indexes1 = Set.of(INDEX_FIRST_PERSON);
-        Set<Index> indexes2 = Set.of(INDEX_SECOND_PERSON);
+        IndexSelection indexes1 = IndexSelection.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes2 = IndexSelection.of(INDEX_SECOND_PERSON);
         LocalDate today = LocalDate.now();
         LocalDate tomorrow = LocalDate.now().plusDays(1);
 
@@ -396,18 +400,161 @@ public class AttendanceCommandTest {
 
         // different status -> returns false
         assertFalse(command1.equals(command5));
+
+        // date range -> returns false
+        AttendanceCommand rangeCommand = new AttendanceCommand(indexes1, today, tomorrow, AttendanceStatus.PRESENT,
+                true, false);
+        assertFalse(command1.equals(rangeCommand));
+        assertTrue(rangeCommand.equals(new AttendanceCommand(indexes1, today, tomorrow, AttendanceStatus.PRESENT,
+                true, false)));
+
+        // different skipped days -> returns false
+        assertFalse(rangeCommand.equals(new AttendanceCommand(indexes1, today, tomorrow, AttendanceStatus.PRESENT,
+                true, true)));
     }
 
     @Test
     public void toStringMethod() {
-        Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON);
         LocalDate date = LocalDate.of(2024, 10, 23);
         AttendanceCommand command = new AttendanceCommand(indexes, date, AttendanceStatus.PRESENT);
 
         String expected = AttendanceCommand.class.getCanonicalName()
                 + "{indexes=" + indexes
+                + ", classes=null"
                 + ", date=" + date
-                + ", status=" + AttendanceStatus.PRESENT + "}";
+                + ", endDate=null"
+                + ", status=" + AttendanceStatus.PRESENT
+                + ", skipWeekends=false"
+                + ", skipHolidays=false}";
         assertEquals(expected, command.toString());
     }
+
+    @Test
+    public void execute_classes_marksEveryStudentWithOneLinePerClass() throws Exception {
+        LocalDate date = LocalDate.now();
+        Person first = new PersonBuilder().withName("First").withPhone("91234561").withClass("K1A")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("91234562").withClass("K1A")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        Person tooOld = new PersonBuilder().withName("Third").withPhone("91234563").withClass("K1A")
+                .withBirthday(date.minusYears(10).format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
+                .withTags("student").build();
+        Person other = new PersonBuilder().withName("Other").withPhone("91234564").withClass("K1B")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        Person teacher = new PersonBuilder().withName("Teacher").withPhone("91234565").withClass("K1A")
+                .withTags("colleague").build();
+        for (Person person : List.of(first, second, tooOld, other, teacher)) {
+            model.addPerson(person);
+        }
+        model.markAttendance(second, date, AttendanceStatus.PRESENT);
+
+        // Hidden students are marked as well
+        model.updateFilteredPersonList(person -> false);
+        AttendanceCommand command = new AttendanceCommand(List.of(new Class("K1A"), new Class("K2C")), date,
+                AttendanceStatus.PRESENT);
+        String dateMsg = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_CLASS_SUCCESS, AttendanceStatus.PRESENT,
+                dateMsg) + "\n" + String.format(AttendanceCommand.MESSAGE_CLASS_SUMMARY, "K1A", 1, 3, 1, 1)
+                + "\n" + String.format(AttendanceCommand.MESSAGE_CLASS_NO_STUDENTS, "K2C");
+
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(AttendanceStatus.PRESENT, first.getAttendance().getStatus(date));
+        assertEquals(null, other.getAttendance().getStatus(date));
+        assertEquals(2, model.getClassAttendanceStatistics(new Class("K1A")).getCount(AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void execute_classesWithoutStudents_throwsCommandException() {
+        AttendanceCommand command = new AttendanceCommand(List.of(new Class("K2C")), LocalDate.now(),
+                AttendanceStatus.PRESENT);
+        assertThrows(CommandException.class, AttendanceCommand.MESSAGE_NO_STUDENTS_IN_CLASSES, () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void execute_dateRangeSkippingWeekendsAndHolidays_marksSchoolDaysOnly() throws Exception {
+        Person student = new PersonBuilder().withName("StuOne").withClass("K1A")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        model.addPerson(student);
+        LocalDate sunday = LocalDate.now().with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+        LocalDate monday = sunday.minusDays(6);
+        LocalDate wednesday = monday.plusDays(2);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setHolidays(Set.of(wednesday));
+        model.setUserPrefs(userPrefs);
+
+        AttendanceCommand command = new AttendanceCommand(IndexSelection.of(INDEX_FIRST_PERSON), monday, sunday,
+                AttendanceStatus.PRESENT, true, true);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        String dateMsg = String.format(AttendanceCommand.MESSAGE_DATE_RANGE, monday.format(formatter),
+                sunday.format(formatter), 4);
+
+        assertTrue(command.execute(model).getFeedbackToUser()
+                .contains("Modified 1 out of 1 contacts as PRESENT on " + dateMsg));
+        assertEquals(4, student.getAttendance().countRecords(monday, sunday));
+        assertEquals(null, student.getAttendance().getStatus(wednesday));
+        assertEquals(null, student.getAttendance().getStatus(sunday.minusDays(1)));
+        assertEquals(4, model.getClassAttendanceStatistics(new Class("K1A")).getCount(AttendanceStatus.PRESENT));
+
+        // Marking the same range again changes nothing
+        assertTrue(command.execute(model).getFeedbackToUser().contains("Modified 0 out of 1 contacts"));
+    }
+
+    @Test
+    public void execute_classesDateRangeRemove_removesRecordsInRange() throws Exception {
+        Person student = new PersonBuilder().withName("StuOne").withClass("K1A")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        model.addPerson(student);
+        LocalDate end = LocalDate.now().minusDays(1);
+        LocalDate start = end.minusDays(9);
+        model.markAttendance(student, start.minusDays(1), AttendanceStatus.LATE);
+        new AttendanceCommand(List.of(new Class("K1A")), start, end, AttendanceStatus.SICK, false, false)
+                .execute(model);
+        assertEquals(10, student.getAttendance().countRecords(AttendanceStatus.SICK, start, end));
+
+        String result = new AttendanceCommand(List.of(new Class("K1A")), start, end, AttendanceStatus.REMOVE,
+                false, false).execute(model).getFeedbackToUser();
+
+        assertTrue(result.endsWith(String.format(AttendanceCommand.MESSAGE_CLASS_SUMMARY, "K1A", 1, 1, 0, 0)));
+        assertEquals(0, student.getAttendance().countRecords(start, end));
+        assertEquals(AttendanceStatus.LATE, student.getAttendance().getStatus(start.minusDays(1)));
+        AttendanceStatistics statistics = model.getClassAttendanceStatistics(new Class("K1A"));
+        assertEquals(0, statistics.getCount(AttendanceStatus.SICK));
+        assertEquals(1, statistics.getCount(AttendanceStatus.LATE));
+    }
+
+    @Test
+    public void execute_dateRangeWithInvalidDate_nothingMarked() throws Exception {
+        LocalDate date = LocalDate.now();
+        Person student = new PersonBuilder().withName("StuOne")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+        model.addPerson(student);
+
+        String result = new AttendanceCommand(IndexSelection.of(INDEX_FIRST_PERSON), date.minusDays(1),
+                date.plusDays(1), AttendanceStatus.PRESENT, false, false).execute(model).getFeedbackToUser();
+
+        assertTrue(result.contains("Modified 0 out of 1 contacts"));
+        assertEquals(0, student.getAttendance().countRecords(date.minusDays(1), date));
+    }
+
+    @Test
+    public void execute_dateRangeOnlyWeekend_throwsCommandException() {
+        LocalDate sunday = LocalDate.now().with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+        AttendanceCommand command = new AttendanceCommand(IndexSelection.of(INDEX_FIRST_PERSON), sunday.minusDays(1),
+                sunday, AttendanceStatus.PRESENT, true, false);
+        assertThrows(CommandException.class, AttendanceCommand.MESSAGE_NO_DATES_IN_RANGE, () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void attendanceStatus_codes_roundTrip() {
+        assertEquals(0, AttendanceStatus.PRESENT.getCode());
+        assertEquals(3, AttendanceStatus.ABSENT.getCode());
+        for (AttendanceStatus status : List.of(AttendanceStatus.PRESENT, AttendanceStatus.LATE, AttendanceStatus.SICK,
+                AttendanceStatus.ABSENT)) {
+            assertEquals(status, AttendanceStatus.fromCode(status.getCode()));
+        }
+        assertThrows(IllegalArgumentException.class, AttendanceStatus.REMOVE::getCode);
+    }
 }
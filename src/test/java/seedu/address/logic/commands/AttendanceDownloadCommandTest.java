@@ -5,19 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
-import java.util.Comparator;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -41,8 +42,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     void constructor_nullDate_throwsNullPointerException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         List<Class> classes = List.of(new Class("K1A"));
         YearMonth month = YearMonth.of(2025, 1);
 
@@ -53,8 +53,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     void constructor_nullMonth_throwsNullPointerException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         List<Class> classes = List.of(new Class("K1A"));
         LocalDate date = LocalDate.of(2025, 12, 29);
 
@@ -65,8 +64,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void execute_emptyContactList_throwsCommandException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(2));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(2));
         LocalDate date = LocalDate.now();
         YearMonth month = YearMonth.of(2025, 1);
 
@@ -78,8 +76,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void execute_indexOutOfBounds_throwsCommandException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(2));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(2));
         LocalDate date = LocalDate.now();
         YearMonth month = YearMonth.of(2025, 1);
 
@@ -94,8 +91,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void execute_colleagueMonthlyReport_throwsCommandException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         LocalDate date = LocalDate.now();
         YearMonth month = YearMonth.of(2025, 1);
 
@@ -110,8 +106,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     void execute_studentMonthlyReport_success() throws CommandException {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         LocalDate date = LocalDate.now();
         YearMonth month = YearMonth.of(2025, 1);
 
@@ -127,8 +122,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     void execute_studentMonthlyReportInvalidMonth_throwsCommandException() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         LocalDate date = LocalDate.now();
         YearMonth before1900 = YearMonth.of(1899, 1);
         YearMonth nextMonth = YearMonth.now().plusMonths(1);
@@ -147,8 +141,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     void execute_studentMonthlyReportOnBorderMonth_success() throws CommandException {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         LocalDate date = LocalDate.now();
         YearMonth month1900 = YearMonth.of(1900, 1);
         YearMonth currentMonth = YearMonth.now();
@@ -254,6 +247,60 @@ public class AttendanceDownloadCommandTest {
         assertTrue(result2.getFeedbackToUser().contains("Saved to:"));
     }
 
+    @Test
+    void execute_severalClassesSomeWithoutStudents_savesEachClassWithStudents() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"), new Class("K1B"), new Class("K1C"));
+        YearMonth month = YearMonth.of(2025, 1);
+
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), month, false, true);
+
+        model.addPerson(new PersonBuilder().withName("Bob").withTags("student").withClass("K1A").build());
+        model.addPerson(new PersonBuilder().withName("Tim").withTags("student").withClass("K1C").build());
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(AttendanceDownloadCommand.MESSAGE_FILE_SAVED,
+                "K1A_attendance_01-2025.csv")));
+        assertTrue(feedback.contains(String.format(AttendanceDownloadCommand.MESSAGE_CLASS_NO_STUDENTS, "K1B")));
+        assertTrue(feedback.contains(String.format(AttendanceDownloadCommand.MESSAGE_FILE_SAVED,
+                "K1C_attendance_01-2025.csv")));
+        assertTrue(Files.readString(tempDir.resolve("K1C_attendance_01-2025.csv")).contains("Tim,K1C"));
+    }
+
+    @Test
+    void execute_classTermMatrix_savesOneFileForAllClasses() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"), new Class("K1B"));
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.now(), false, false, Year.of(2025), 1);
+
+        Person bob = new PersonBuilder().withName("Bob").withTags("student").withClass("K1B")
+                .withBirthday("01-01-2022").build();
+        model.addPerson(bob);
+        model.addPerson(new PersonBuilder().withName("Tim").withTags("student").withClass("K1A").build());
+        model.addPerson(new PersonBuilder().withName("Lee").withTags("student").withClass("K2A").build());
+        bob.markAttendance(LocalDate.of(2025, 3, 31), AttendanceStatus.LATE);
+
+        assertTrue(command.execute(model).getFeedbackToUser().contains("Saved to:"));
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("class_attendance_T1-2025.csv"));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("Name,Class,01-01-2025,02-01-2025,03-01-2025,06-01-2025,"));
+        assertTrue(lines.get(0).endsWith(",31-03-2025,Present,Late,Sick,Absent,Present %"));
+        assertTrue(lines.get(1).startsWith("Tim,K1A,"));
+        assertTrue(lines.get(2).startsWith("Bob,K1B,"));
+        assertTrue(lines.get(2).endsWith(",LATE,0,1,0,0,0.0"));
+    }
+
+    @Test
+    void execute_futureYear_throwsCommandException() {
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(null, List.of(new Class("K1A")),
+                LocalDate.now(), YearMonth.now(), false, false, Year.now().plusYears(1), null);
+        model.addPerson(new PersonBuilder().withTags("student").withClass("K1A").build());
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
     @Test
     public void execute_classDailyReportNoStudent_throwsCommandException() {
         List<Class> classes = List.of(new Class("K1A"));
@@ -329,8 +376,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void equals_sameObject_returnsTrue() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
 
         AttendanceDownloadCommand command = new AttendanceDownloadCommand(
                 indexes, null, LocalDate.now(), YearMonth.now(),
@@ -341,8 +387,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void equals_differentType_returnsFalse() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
 
         AttendanceDownloadCommand command = new AttendanceDownloadCommand(
                 indexes, null, LocalDate.now(), YearMonth.now(),
@@ -354,8 +399,7 @@ public class AttendanceDownloadCommandTest {
 
     @Test
     public void toString_containsAllFields() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
         List<Class> classes = List.of(new Class("K1A"));
         LocalDate date = LocalDate.of(2025, 12, 29);
         YearMonth month = YearMonth.of(2025, 1);
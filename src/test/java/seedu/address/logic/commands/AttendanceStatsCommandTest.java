@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceStatsCommandTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+    private static final Class K2B = new Class("K2B");
+
+    private static Person buildStudent(String name, String phone) {
+        return new PersonBuilder().withName(name).withPhone(phone).withClass("K2B").withBirthday("01-01-2021")
+                .withTags("student").build();
+    }
+
+    private static Model buildModel() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Person often = buildStudent("Often Absent", "91234567");
+        Person rarely = buildStudent("Rarely Absent", "91234568");
+        Person colleague = new PersonBuilder().withName("A Teacher").withPhone("91234569").withClass("K2B")
+                .withTags("colleague").build();
+        addressBook.addPerson(often);
+        addressBook.addPerson(rarely);
+        addressBook.addPerson(colleague);
+
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        for (int day = 3; day <= 12; day++) {
+            LocalDate date = MONTH.atDay(day);
+            model.markAttendance(often, date, day <= 4 ? AttendanceStatus.ABSENT : AttendanceStatus.PRESENT);
+            model.markAttendance(rarely, date, AttendanceStatus.PRESENT);
+        }
+        return model;
+    }
+
+    @Test
+    public void execute_student_showsStudentStatistics() throws Exception {
+        Model model = buildModel();
+        Person student = model.getFilteredPersonList().get(0);
+        String expectedMessage = String.format(AttendanceStatsCommand.MESSAGE_STUDENT_STATISTICS, student.getName(),
+                student.getAttendance().getStatistics().formatSummary(MONTH));
+
+        assertCommandSuccess(new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH), model, expectedMessage,
+                model);
+    }
+
+    @Test
+    public void execute_class_showsClassStatisticsAndChronicAbsentees() throws Exception {
+        Model model = buildModel();
+        String expectedMessage = String.format(AttendanceStatsCommand.MESSAGE_CLASS_STATISTICS, K2B,
+                "Term 1, 2025: 90.0% present (18 of 20 days), 0 late, 0 sick, 2 absent\n"
+                        + "Feb 2025: 18 present, 0 late, 0 sick, 2 absent") + "\n"
+                + String.format(AttendanceStatsCommand.MESSAGE_CHRONIC_ABSENTEES,
+                        AttendanceStatsCommand.CHRONIC_ABSENCE_PERCENTAGE, "Often Absent - 20.0% absent");
+
+        assertCommandSuccess(new AttendanceStatsCommand(null, K2B, MONTH), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_classWithoutChronicAbsentees_saysSo() throws Exception {
+        Model model = buildModel();
+        String expectedMessage = String.format(AttendanceStatsCommand.MESSAGE_CLASS_STATISTICS, K2B,
+                "Term 2, 2025: 0.0% present (0 of 0 days), 0 late, 0 sick, 0 absent\n"
+                        + "Apr 2025: 0 present, 0 late, 0 sick, 0 absent") + "\n"
+                + AttendanceStatsCommand.MESSAGE_NO_CHRONIC_ABSENTEES;
+
+        assertCommandSuccess(new AttendanceStatsCommand(null, K2B, YearMonth.of(2025, 4)), model, expectedMessage,
+                model);
+    }
+
+    @Test
+    public void execute_classDateRange_sumsClassRecordsInRange() throws Exception {
+        Model model = buildModel();
+        String expectedMessage = String.format(AttendanceStatsCommand.MESSAGE_RANGE_STATISTICS, "class K2B",
+                "03 Feb 2025", "07 Feb 2025", 80.0, 8, 10, 0, 0, 2);
+
+        assertCommandSuccess(new AttendanceStatsCommand(null, K2B, MONTH.atDay(3), MONTH.atDay(7)), model,
+                expectedMessage, model);
+    }
+
+    @Test
+    public void execute_studentDateRange_countsStudentRecordsInRange() throws Exception {
+        Model model = buildModel();
+        String expectedMessage = String.format(AttendanceStatsCommand.MESSAGE_RANGE_STATISTICS, "Often Absent",
+                "04 Feb 2025", "28 Feb 2025", 88.9, 8, 9, 0, 0, 1);
+
+        assertCommandSuccess(new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH.atDay(4),
+                MONTH.atEndOfMonth()), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_notStudent_throwsCommandException() throws Exception {
+        Model model = buildModel();
+        assertCommandFailure(new AttendanceStatsCommand(Index.fromOneBased(3), null, MONTH), model,
+                String.format(AttendanceStatsCommand.MESSAGE_NOT_STUDENT, "A Teacher"));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() throws Exception {
+        Model model = buildModel();
+        assertCommandFailure(new AttendanceStatsCommand(Index.fromOneBased(4), null, MONTH), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        AttendanceStatsCommand firstCommand = new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH);
+
+        assertTrue(firstCommand.equals(firstCommand));
+        assertTrue(firstCommand.equals(new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH)));
+        assertFalse(firstCommand.equals(new AttendanceStatsCommand(INDEX_SECOND_PERSON, null, MONTH)));
+        assertFalse(firstCommand.equals(new AttendanceStatsCommand(null, K2B, MONTH)));
+        assertFalse(firstCommand.equals(new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH.plusMonths(1))));
+        assertFalse(firstCommand.equals(new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, MONTH.atDay(1),
+                MONTH.atEndOfMonth())));
+        assertFalse(firstCommand.equals(null));
+        assertFalse(firstCommand.equals(1));
+    }
+
+}
@@ -24,6 +24,16 @@ public class CommandResultTest {
         assertFalse(result.isExit());
     }
 
+    @Test
+    public void withAppendedFeedback_keepsOtherFields() {
+        Person person = new PersonBuilder().build();
+        CommandResult result = new CommandResult("test", person).withAppendedFeedback("warning");
+
+        assertEquals("test\nwarning", result.getFeedbackToUser());
+        assertEquals(person, result.getPersonToView());
+        assertTrue(result.isShowView());
+    }
+
     @Test
     public void isShowPerson() {
         // With person -> returns true
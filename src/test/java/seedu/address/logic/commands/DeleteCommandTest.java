@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.INVALID_NAME;
 import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -119,6 +120,10 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // names matched differently -> returns false
+        assertFalse(new DeleteCommand("Alice", testInfoHandler, testDeleteHandler)
+                .equals(new DeleteCommand("Alice", true, testInfoHandler, testDeleteHandler)));
     }
 
     @Test
@@ -129,7 +134,7 @@ public class DeleteCommandTest {
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex, testInfoHandler, testDeleteHandler);
         String expected = DeleteCommand.class.getCanonicalName()
                 + "{targetIndex=" + targetIndex
-                + ", targetName=null, isDeletedByName=false}";
+                + ", targetName=null, isDeletedByName=false, isSoundAlike=false}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -141,7 +146,7 @@ public class DeleteCommandTest {
         DeleteCommand deleteCommand = new DeleteCommand(name, testInfoHandler, testDeleteHandler);
         String expected = DeleteCommand.class.getCanonicalName()
                 + "{targetIndex=null, targetName=" + name
-                + ", isDeletedByName=true}";
+                + ", isDeletedByName=true, isSoundAlike=false}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -234,6 +239,56 @@ public class DeleteCommandTest {
         assertTrue(testDeleteHandler.isShowPossibleMatchesCalled());
     }
 
+    @Test
+    public void execute_partialNameWithinWord_matchesOfferedByName() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        TestDeletePopupHandler testDeleteHandler = new TestDeletePopupHandler();
+        DeleteCommand deleteCommand = new DeleteCommand("EIER", new TestInfoInfoPopupHandler(), testDeleteHandler);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(TypicalPersons.BENSON));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(TypicalPersons.BENSON);
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertTrue(testDeleteHandler.isShowPossibleMatchesCalled());
+
+        // persons hidden by the current filter are not offered
+        model.updateFilteredPersonList(person -> person != TypicalPersons.DANIEL);
+        new DeleteCommand("e mey", new TestInfoInfoPopupHandler(), new TestDeletePopupHandler()).execute(model);
+        assertFalse(model.hasPerson(TypicalPersons.ELLE));
+        assertTrue(model.hasPerson(TypicalPersons.DANIEL));
+    }
+
+    @Test
+    public void execute_partialName_matchesOfferedInShownOrder() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.sortFilteredPersonList(Comparator.comparing(person -> person.getPhone().value));
+
+        // Daniel Meier's phone number comes before Benson Meier's, so Daniel is shown and offered first
+        new DeleteCommand("Meier", new TestInfoInfoPopupHandler(), new TestDeletePopupHandler()).execute(model);
+        assertFalse(model.hasPerson(TypicalPersons.DANIEL));
+        assertTrue(model.hasPerson(TypicalPersons.BENSON));
+    }
+
+    @Test
+    public void execute_soundAlikeName_matchesOfferedByName() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        TestDeletePopupHandler testDeleteHandler = new TestDeletePopupHandler();
+        DeleteCommand deleteCommand =
+                new DeleteCommand("Mayer", true, new TestInfoInfoPopupHandler(), testDeleteHandler);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(TypicalPersons.BENSON));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(TypicalPersons.BENSON);
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertTrue(testDeleteHandler.isShowPossibleMatchesCalled());
+
+        // every word must sound alike a word of the name
+        new DeleteCommand("Ele Myer", true, new TestInfoInfoPopupHandler(), new TestDeletePopupHandler())
+                .execute(model);
+        assertFalse(model.hasPerson(TypicalPersons.ELLE));
+        assertTrue(model.hasPerson(TypicalPersons.DANIEL));
+    }
+
     @Test
     public void execute_cancelledMultipleMatches_throwsCommandException() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -6,7 +6,6 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
-import java.util.List;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -57,7 +57,7 @@ public class FavouriteCommandTest {
 
     @Test
     public void execute_noPersonList_throwsCommandException() {
-        FavouriteCommand favouriteCommand = new FavouriteCommand(List.of());
+        FavouriteCommand favouriteCommand = new FavouriteCommand(IndexSelection.of());
 
         String expectedMessage = "No contacts are available to be added to favourites.";
 
@@ -73,7 +73,7 @@ public class FavouriteCommandTest {
     public void execute_outOfBoundsIndex_throwsCommandException() {
         int validLength = model.getFilteredPersonList().size();
         Index outOfBoundIndex = Index.fromOneBased(validLength + 1);
-        List<Index> index = List.of(INDEX_FIRST_PERSON, outOfBoundIndex);
+        IndexSelection index = IndexSelection.of(INDEX_FIRST_PERSON, outOfBoundIndex);
 
         FavouriteCommand favouriteCommand = new FavouriteCommand(index);
 
@@ -100,7 +100,7 @@ public class FavouriteCommandTest {
         Person editedFirstExpectedPerson = new PersonBuilder(firstExpectedPerson).withFavourite(true).build();
         expectedModel.setPerson(firstExpectedPerson, editedFirstExpectedPerson);
 
-        List<Index> index = List.of(INDEX_FIRST_PERSON);
+        IndexSelection index = IndexSelection.of(INDEX_FIRST_PERSON);
 
         FavouriteCommand favouriteCommand = new FavouriteCommand(index);
         // The output message we expect from executing command on model
@@ -126,7 +126,7 @@ public class FavouriteCommandTest {
         Person editedFirstExpectedPerson = new PersonBuilder(firstExpectedPerson).withFavourite(false).build();
         expectedModel.setPerson(firstExpectedPerson, editedFirstExpectedPerson);
 
-        List<Index> index = List.of(INDEX_FIRST_PERSON);
+        IndexSelection index = IndexSelection.of(INDEX_FIRST_PERSON);
 
         FavouriteCommand favouriteCommand = new FavouriteCommand(index);
         String expectedMessage = String.format(FavouriteCommand.MESSAGE_FAVOURITE_UPDATE_SUCCESS
@@ -159,7 +159,7 @@ public class FavouriteCommandTest {
         Person editedSecondExpectedPerson = new PersonBuilder(secondExpectedPerson).withFavourite(true).build();
         expectedModel.setPerson(secondExpectedPerson, editedSecondExpectedPerson);
 
-        List<Index> indexes = List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
 
         FavouriteCommand favouriteCommand = new FavouriteCommand(indexes);
         String expectedMessage = String.format(FavouriteCommand.MESSAGE_FAVOURITE_UPDATE_SUCCESS
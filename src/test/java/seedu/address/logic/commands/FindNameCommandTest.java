@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.Messages.MESSAGE_SEE_UNFILTERED_CONTACTS;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -20,6 +22,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindNameCommand}.
@@ -85,6 +89,34 @@ public class FindNameCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_closestMatchesRanked() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meier"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW
+                + String.format(FindNameCommand.MESSAGE_CLOSEST_MATCHES, "Benson Meier, Daniel Meier, Elle Meyer")
+                + MESSAGE_SEE_UNFILTERED_CONTACTS, 3);
+        FindNameCommand command = new FindNameCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_manyFuzzyMatches_onlyClosestRanked() {
+        for (Model eachModel : Arrays.asList(model, expectedModel)) {
+            eachModel.addPerson(new PersonBuilder().withName("Zoe Meier").withPhone("91111111").build());
+            eachModel.addPerson(new PersonBuilder().withName("Anna Meier").withPhone("92222222").build());
+            eachModel.addPerson(new PersonBuilder().withName("Ian Meijer").withPhone("93333333").build());
+        }
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meier"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW
+                + String.format(FindNameCommand.MESSAGE_CLOSEST_MATCHES,
+                        "Anna Meier, Benson Meier, Daniel Meier, Zoe Meier, Ian Meijer")
+                + MESSAGE_SEE_UNFILTERED_CONTACTS, 6);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindNameCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -15,12 +15,15 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 
 /**
@@ -87,6 +90,17 @@ public class FindPhoneCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE, GEORGE_DUPLICATE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_wholeNumbersAfterOtherFilter_lookedUpWithinFilter() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW + MESSAGE_SEE_UNFILTERED_CONTACTS, 1);
+        PhoneContainsKeywordsPredicate predicate = preparePredicate("95352563 94822240 12345678");
+        Predicate<Person> otherFilter = person -> person != CARL;
+        model.updateFilteredPersonList(otherFilter);
+        expectedModel.updateFilteredPersonList(otherFilter.and(predicate));
+        assertCommandSuccess(new FindPhoneCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -1,23 +1,27 @@
 package seedu.address.logic.commands.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassDailyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassMonthlyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateStudentsMonthlyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.getStudents;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.getStudentsByClass;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.writeDailyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.writeMonthlyAttendanceReport;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.InvalidDateException;
-import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.Class;
@@ -33,16 +37,18 @@ public class AttendanceCsvUtilTest {
     }
 
     @Test
-     void generateStudentsMonthlyAttendanceReport_validStudents_generatesCsv() {
+     void writeMonthlyAttendanceReport_validStudents_generatesCsv() throws IOException {
         Person student = new PersonBuilder().withTags("student").build();
         Person colleague = new PersonBuilder().withName("Bob").withTags("colleague").build();
         model.addPerson(student);
         model.addPerson(colleague);
 
-        Set<Index> indexes = Set.of(Index.fromOneBased(1), Index.fromOneBased(2));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2));
         YearMonth month = YearMonth.of(2025, 1);
 
-        String result = generateStudentsMonthlyAttendanceReport(model, indexes, month);
+        StringWriter writer = new StringWriter();
+        writeMonthlyAttendanceReport(getStudents(model, indexes), month, writer);
+        String result = writer.toString();
 
         assertTrue(result.contains("Name,Class")); // Header present
         assertTrue(result.contains(student.getName().toString()));
@@ -50,21 +56,17 @@ public class AttendanceCsvUtilTest {
     }
 
     @Test
-     void generateStudentsMonthlyAttendanceReport_nonStudents_notSaved() {
+     void getStudents_nonStudents_empty() {
         Person colleague = new PersonBuilder().withTags("colleague").build();
         model.addPerson(colleague);
 
-        Set<Index> indexes = Set.of(Index.fromOneBased(1));
-        YearMonth month = YearMonth.of(2025, 1);
-
-        String result = generateStudentsMonthlyAttendanceReport(model, indexes, month);
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
 
-        assertTrue(result.isEmpty());
+        assertTrue(getStudents(model, indexes).isEmpty());
     }
 
     @Test
-     void generateClassDailyAttendanceReport_validClass_generatesCsv()
-             throws InvalidDateException, NoAttendanceRecordException {
+     void writeDailyAttendanceReport_validClass_generatesCsv() throws IOException, CommandException {
         Class studentClass = new Class("K1A");
         LocalDate date = LocalDate.of(2024, 12, 29);
 
@@ -83,7 +85,9 @@ public class AttendanceCsvUtilTest {
         student2.markAttendance(date, AttendanceStatus.LATE);
         student2.markAttendance(date.plusDays(1), AttendanceStatus.SICK);
 
-        String result = generateClassDailyAttendanceReport(model, studentClass, date);
+        StringWriter writer = new StringWriter();
+        writeDailyAttendanceReport(getStudentsByClass(model, List.of(studentClass)).get(studentClass), date, writer);
+        String result = writer.toString();
 
         assertTrue(result.contains("Name,Status")); // Header present
         assertTrue(result.contains(student1.getName().toString()));
@@ -96,7 +100,7 @@ public class AttendanceCsvUtilTest {
     }
 
     @Test
-     void generateClassMonthlyAttendanceReport_validClass_generateCsv() {
+     void writeMonthlyAttendanceReport_validClass_generateCsv() throws IOException {
         Class studentClass = new Class("K1A");
         YearMonth month = YearMonth.of(2024, 12);
         LocalDate date = LocalDate.of(2024, 12, 29);
@@ -121,7 +125,9 @@ public class AttendanceCsvUtilTest {
             throw new RuntimeException(e);
         }
 
-        String result = generateClassMonthlyAttendanceReport(model, studentClass, month);
+        StringWriter writer = new StringWriter();
+        writeMonthlyAttendanceReport(getStudentsByClass(model, List.of(studentClass)).get(studentClass), month, writer);
+        String result = writer.toString();
 
         assertTrue(result.contains("Name,Class")); // Header present
         assertTrue(result.contains(student1.getName().toString()));
@@ -133,4 +139,43 @@ public class AttendanceCsvUtilTest {
         assertTrue(result.contains(AttendanceStatus.SICK.toString()));
         assertTrue(result.contains(AttendanceStatus.ABSENT.toString()));
     }
+
+    @Test
+    void writeMonthlyAttendanceReport_recordedDays_exactCells() throws IOException, CommandException {
+        Person student = new PersonBuilder().withName("Bob").withTags("student").withClass("K1A")
+                .withBirthday("01-01-2024").build();
+        student.markAttendance(LocalDate.of(2025, 2, 1), AttendanceStatus.PRESENT);
+        student.markAttendance(LocalDate.of(2025, 2, 3), AttendanceStatus.ABSENT);
+
+        StringWriter writer = new StringWriter();
+        writeMonthlyAttendanceReport(List.of(student), YearMonth.of(2025, 2), writer);
+        String[] lines = writer.toString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("Name,Class,01-02-2025,02-02-2025,03-02-2025,"));
+        assertTrue(lines[0].endsWith(",28-02-2025"));
+        assertEquals("Bob,K1A,PRESENT,,ABSENT" + ",".repeat(25), lines[1]);
+    }
+
+    @Test
+    void getStudentsByClass_severalClasses_partitionedInListOrder() {
+        Person bob = new PersonBuilder().withName("Bob").withTags("student").withClass("K1A").build();
+        Person tim = new PersonBuilder().withName("Tim").withTags("student").withClass("K1B").build();
+        Person lee = new PersonBuilder().withName("Lee").withTags("student").withClass("K1A").build();
+        Person teacher = new PersonBuilder().withName("Teacher").withTags("colleague").withClass("K1A").build();
+        model.addPerson(bob);
+        model.addPerson(tim);
+        model.addPerson(lee);
+        model.addPerson(teacher);
+
+        Class k1a = new Class("K1A");
+        Class k1b = new Class("K1B");
+        Class k2a = new Class("K2A");
+        Map<Class, List<Person>> studentsByClass = getStudentsByClass(model, List.of(k1b, k1a, k2a, k1a));
+
+        assertEquals(List.of(k1b, k1a, k2a), List.copyOf(studentsByClass.keySet()));
+        assertEquals(List.of(tim), studentsByClass.get(k1b));
+        assertEquals(List.of(bob, lee), studentsByClass.get(k1a));
+        assertTrue(studentsByClass.get(k2a).isEmpty());
+    }
 }
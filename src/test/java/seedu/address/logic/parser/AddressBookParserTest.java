@@ -11,16 +11,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
@@ -168,7 +165,7 @@ public class AddressBookParserTest {
                 AttendanceCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " s/present");
 
         AttendanceCommand expectedCommand = new AttendanceCommand(
-                Set.of(INDEX_FIRST_PERSON),
+                IndexSelection.of(INDEX_FIRST_PERSON),
                 LocalDate.now(),
                 AttendanceStatus.PRESENT
         );
@@ -178,8 +175,7 @@ public class AddressBookParserTest {
 
     @Test
     public void parseCommand_attendanceDownload() throws Exception {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
 
         AttendanceDownloadCommand command = (AttendanceDownloadCommand) parser.parseCommand(
                 AttendanceDownloadCommand.COMMAND_WORD + " "
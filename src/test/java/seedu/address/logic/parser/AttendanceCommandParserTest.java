@@ -5,13 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.time.LocalDate;
-import java.util.Set;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.person.Class;
 
 public class AttendanceCommandParserTest {
 
@@ -21,33 +23,73 @@ public class AttendanceCommandParserTest {
     public void parse_validArgs_returnsAttendanceCommand() throws Exception {
         // Single index with present status
         assertParseSuccess(parser, "1 s/present",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1)), LocalDate.now(), AttendanceStatus.PRESENT));
+                new AttendanceCommand(IndexSelection.of(Index.fromOneBased(1)), LocalDate.now(),
+                        AttendanceStatus.PRESENT));
 
         // Multiple indexes with absent status
         assertParseSuccess(parser, "1,3,5 s/absent",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(5)),
-                        LocalDate.now(), AttendanceStatus.ABSENT));
+                new AttendanceCommand(IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(3),
+                        Index.fromOneBased(5)), LocalDate.now(), AttendanceStatus.ABSENT));
 
         // Range with specific date
         assertParseSuccess(parser, "1-3 s/late d/23-10-2024",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3)),
+                new AttendanceCommand(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(3)),
                         LocalDate.of(2024, 10, 23), AttendanceStatus.LATE));
 
         // Mixed range and individual indexes
         assertParseSuccess(parser, "1-3,5,7 s/sick",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3),
-                        Index.fromOneBased(5), Index.fromOneBased(7)),
+                new AttendanceCommand(IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2),
+                        Index.fromOneBased(3), Index.fromOneBased(5), Index.fromOneBased(7)),
                         LocalDate.now(), AttendanceStatus.SICK));
 
         // Mixed range and individual indexes with whitespaces
         assertParseSuccess(parser, "1     -     3,5    ,   7 s/     sick     ",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3),
-                        Index.fromOneBased(5), Index.fromOneBased(7)),
+                new AttendanceCommand(IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2),
+                        Index.fromOneBased(3), Index.fromOneBased(5), Index.fromOneBased(7)),
                         LocalDate.now(), AttendanceStatus.SICK));
 
         // Case insensitive status
         assertParseSuccess(parser, "1 s/PRESENT",
-                new AttendanceCommand(Set.of(Index.fromOneBased(1)), LocalDate.now(), AttendanceStatus.PRESENT));
+                new AttendanceCommand(IndexSelection.of(Index.fromOneBased(1)), LocalDate.now(),
+                        AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void parse_classes_returnsAttendanceCommand() {
+        assertParseSuccess(parser, " c/K1A c/K1B s/present d/23-10-2024",
+                new AttendanceCommand(List.of(new Class("K1A"), new Class("K1B")), LocalDate.of(2024, 10, 23),
+                        AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void parse_dateRange_returnsAttendanceCommand() {
+        assertParseSuccess(parser, "1-2 s/sick d/01-12-2025 d/05-12-2025",
+                new AttendanceCommand(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(2)),
+                        LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 5), AttendanceStatus.SICK, false, false));
+
+        // Skipped days are case insensitive and may be repeated
+        assertParseSuccess(parser, " c/K1A s/present d/01-12-2025 d/31-12-2025 skip/Weekends skip/holidays "
+                        + "skip/weekends",
+                new AttendanceCommand(List.of(new Class("K1A")), LocalDate.of(2025, 12, 1),
+                        LocalDate.of(2025, 12, 31), AttendanceStatus.PRESENT, true, true));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, "1 s/present d/05-12-2025 d/01-12-2025",
+                AttendanceStatsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, "1 s/present d/01-12-2025 d/02-12-2025 d/03-12-2025",
+                AttendanceCommandParser.MESSAGE_TOO_MANY_DATES);
+        assertParseFailure(parser, "1 s/present d/01-12-2025 skip/weekends",
+                AttendanceCommandParser.MESSAGE_SKIP_WITHOUT_RANGE);
+        assertParseFailure(parser, "1 s/present d/01-12-2025 d/05-12-2025 skip/mondays",
+                AttendanceCommandParser.MESSAGE_INVALID_SKIP);
+    }
+
+    @Test
+    public void parse_indexesAndClass_throwsParseException() {
+        assertParseFailure(parser, "1 c/K1A s/present", "Cannot specify both INDEX and c/CLASS. Choose one.");
+        assertParseFailure(parser, " c/K 1A s/present", Class.MESSAGE_CONSTRAINTS);
     }
 
     @Test
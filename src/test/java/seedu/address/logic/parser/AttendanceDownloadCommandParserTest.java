@@ -6,15 +6,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
-import java.util.Comparator;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Class;
@@ -48,40 +47,29 @@ public class AttendanceDownloadCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsAttendanceCommand() {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        indexes.add(Index.fromOneBased(1));
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1));
 
         // Single index
         assertParseSuccess(parser, "1",
                 new AttendanceDownloadCommand(indexes, null,
                         LocalDate.now(), YearMonth.now(), false, false));
 
-        indexes.clear();
-        indexes.add(Index.fromOneBased(1));
-        indexes.add(Index.fromOneBased(3));
-        indexes.add(Index.fromOneBased(5));
+        indexes = IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(5));
 
         // Multiple indexes
         assertParseSuccess(parser, "1,3,5",
                 new AttendanceDownloadCommand(indexes, null,
                         LocalDate.now(), YearMonth.now(), false, false));
 
-        indexes.clear();
-        indexes.add(Index.fromOneBased(1));
-        indexes.add(Index.fromOneBased(2));
-        indexes.add(Index.fromOneBased(3));
+        indexes = IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3));
 
         // Range indexes
         assertParseSuccess(parser, "1-3",
                 new AttendanceDownloadCommand(indexes, null,
                         LocalDate.now(), YearMonth.now(), false, false));
 
-        indexes.clear();
-        indexes.add(Index.fromOneBased(1));
-        indexes.add(Index.fromOneBased(2));
-        indexes.add(Index.fromOneBased(3));
-        indexes.add(Index.fromOneBased(5));
-        indexes.add(Index.fromOneBased(7));
+        indexes = IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3),
+                Index.fromOneBased(5), Index.fromOneBased(7));
 
         // Mixed range and individual indexes
         assertParseSuccess(parser, "1-3,5,7",
@@ -123,4 +111,24 @@ public class AttendanceDownloadCommandParserTest {
                         + "with no spaces, and must be between 1 and 20 characters long.");
     }
 
+    @Test
+    public void parse_yearAndTerm_returnsAttendanceCommand() {
+        IndexSelection indexes = IndexSelection.of(Index.fromOneBased(1), Index.fromOneBased(2));
+
+        assertParseSuccess(parser, "1-2 y/2025",
+                new AttendanceDownloadCommand(indexes, null, LocalDate.now(), YearMonth.now(), false, false,
+                        Year.of(2025), null));
+        assertParseSuccess(parser, " c/K1A c/K1B y/2024 term/3",
+                new AttendanceDownloadCommand(null, List.of(new Class("K1A"), new Class("K1B")), LocalDate.now(),
+                        YearMonth.now(), false, false, Year.of(2024), 3));
+    }
+
+    @Test
+    public void parse_invalidYearOrTerm_throwsParseException() {
+        assertParseFailure(parser, " c/K1A y/25", "Invalid year format/input. Please use yyyy (e.g. 2025).");
+        assertParseFailure(parser, " c/K1A y/2025 term/5", "Invalid term. Please use a number from 1 to 4.");
+        assertParseFailure(parser, " c/K1A term/1", "term/TERM must be given with y/YEAR.");
+        assertParseFailure(parser, " c/K1A y/2025 m/01-2025",
+                "Cannot combine y/YEAR with d/DATE or m/MONTH. Choose one.");
+    }
 }
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceStatsCommand;
+import seedu.address.model.person.Class;
+
+public class AttendanceStatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceStatsCommand.MESSAGE_USAGE);
+
+    private AttendanceStatsCommandParser parser = new AttendanceStatsCommandParser();
+
+    @Test
+    public void parse_index_returnsCommand() {
+        assertParseSuccess(parser, " 1", new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, YearMonth.now()));
+        assertParseSuccess(parser, " 1 m/02-2025",
+                new AttendanceStatsCommand(INDEX_FIRST_PERSON, null, YearMonth.of(2025, 2)));
+    }
+
+    @Test
+    public void parse_class_returnsCommand() {
+        assertParseSuccess(parser, " c/K2B m/12-2024",
+                new AttendanceStatsCommand(null, new Class("K2B"), YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    public void parse_dateRange_returnsCommand() {
+        assertParseSuccess(parser, " c/K2B d/03-02-2025 d/21-03-2025", new AttendanceStatsCommand(null,
+                new Class("K2B"), LocalDate.of(2025, 2, 3), LocalDate.of(2025, 3, 21)));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " c/K2B d/03-02-2025", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/K2B d/03-02-2025 d/21-03-2025 m/02-2025", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 d/21-03-2025 d/03-02-2025",
+                AttendanceStatsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " 1 d/30-02-2025 d/03-03-2025",
+                "Invalid date format/input. Please use dd-MM-yyyy (e.g. 29-12-2025).");
+    }
+
+    @Test
+    public void parse_neitherOrBoth_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " m/02-2025", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 c/K2B", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/K2B m/13-2025",
+                "Invalid month format/input. Please use MM-yyyy (e.g. 12-2025).");
+        assertParseFailure(parser, " c/K 2B", Class.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -54,6 +54,21 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "n/Alice Pauline", expectedCommand);
     }
 
+    @Test
+    public void parse_soundAlikeName_returnsDeleteCommand() {
+        DeleteCommand expectedCommand =
+                new DeleteCommand("Jon Smyth", true, testInfoHandler, testDeleteHandler);
+        assertParseSuccess(parser, "n/Jon Smyth mode/sound", expectedCommand);
+        assertParseSuccess(parser, " n/ Jon Smyth  mode/SOUND ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, "n/Jon Smyth mode/fuzzy", DeleteCommandParser.MESSAGE_INVALID_MODE);
+        assertParseFailure(parser, "n/ mode/sound",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_emptyName_throwsParseException() {
         assertParseFailure(parser, "n/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
@@ -7,11 +7,9 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
-import java.util.List;
-
 import org.junit.jupiter.api.Test;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.FavouriteCommand;
 
 public class FavouriteCommandParserTest {
@@ -32,15 +30,20 @@ public class FavouriteCommandParserTest {
     @Test
     public void parse_someInvalidArgs_throwsParseException() {
         assertParseFailure(parser, "0,1,2", String.format(MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS));
+        assertParseFailure(parser, "1 2", String.format(MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS));
+        assertParseFailure(parser, "3-x", String.format(MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS));
     }
 
     @Test
     public void parse_validArgs_returnsFavouriteCommand() {
         String userInput = "1, 2";
 
-        List<Index> indexes = List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        IndexSelection indexes = IndexSelection.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
         FavouriteCommand expectedCommand = new FavouriteCommand(indexes);
 
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        // Ranges and repeated indexes
+        assertParseSuccess(parser, "2, 1-2", expectedCommand);
     }
 }
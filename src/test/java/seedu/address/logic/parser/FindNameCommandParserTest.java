@@ -4,6 +4,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.logic.parser.FindNameCommandParser.MESSAGE_CONSTRAINTS;
+import static seedu.address.logic.parser.FindNameCommandParser.MESSAGE_INVALID_MODE;
 
 import java.util.Arrays;
 
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 public class FindNameCommandParserTest {
 
@@ -48,4 +51,26 @@ public class FindNameCommandParserTest {
                 new FindNameCommand(new NameContainsKeywordsPredicate(Arrays.asList("ani", "ion")));
         assertParseSuccess(parser, "ani ion", expectedFindNameCommand);
     }
+
+    @Test
+    public void parse_fuzzyMode_returnsFuzzyFindNameCommand() {
+        FindNameCommand expectedFindNameCommand =
+                new FindNameCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Aisyah", "Ngyuen")));
+        assertParseSuccess(parser, " Aisyah  Ngyuen mode/fuzzy", expectedFindNameCommand);
+        assertParseSuccess(parser, " Aisyah Ngyuen mode/ FUZZY ", expectedFindNameCommand);
+    }
+
+    @Test
+    public void parse_soundMode_returnsSoundAlikeFindNameCommand() {
+        FindNameCommand expectedFindNameCommand =
+                new FindNameCommand(new NameSoundsLikeKeywordsPredicate(Arrays.asList("Smyth")));
+        assertParseSuccess(parser, " Smyth mode/sound", expectedFindNameCommand);
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, " Aisyah mode/exact", MESSAGE_INVALID_MODE);
+        assertParseFailure(parser, " mode/fuzzy", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindNameCommand.MESSAGE_USAGE));
+    }
 }
@@ -3,11 +3,10 @@ package seedu.address.logic.parser.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
-import java.util.Set;
-
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class IndexParserTest {
@@ -19,26 +18,32 @@ public class IndexParserTest {
 
     @Test
     public void parseIndexes_singleIndex_returnsSet() throws Exception {
-        Set<Index> result = IndexParser.parseIndexes("1");
-        assertEquals(Set.of(Index.fromOneBased(1)), result);
+        IndexSelection result = IndexParser.parseIndexes("1");
+        assertEquals(IndexSelection.of(Index.fromOneBased(1)), result);
     }
 
     @Test
     public void parseIndexes_commaSeparated_returnsSet() throws Exception {
-        Set<Index> result = IndexParser.parseIndexes("1,2,3");
+        IndexSelection result = IndexParser.parseIndexes("1,2,3");
         assertEquals(3, result.size());
+        assertEquals(1, result.getIntervalCount());
     }
 
     @Test
     public void parseIndexes_range_returnsSet() throws Exception {
-        Set<Index> result = IndexParser.parseIndexes("1-3");
+        IndexSelection result = IndexParser.parseIndexes("1-3");
         assertEquals(3, result.size());
+
+        // A large range is kept as a single interval
+        assertEquals(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(50000)),
+                IndexParser.parseIndexes("1-50000"));
     }
 
     @Test
     public void parseIndexes_mixed_returnsSet() throws Exception {
-        Set<Index> result = IndexParser.parseIndexes("1, 3-5, 7");
+        IndexSelection result = IndexParser.parseIndexes("1, 3-5, 7");
         assertEquals(5, result.size());
+        assertEquals(3, result.getIntervalCount());
     }
 
     @Test
@@ -11,18 +11,29 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.person.AttendanceStatistics;
+import seedu.address.model.person.Class;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
 
 public class AddressBookTest {
 
@@ -102,6 +113,209 @@ public class AddressBookTest {
         assertEquals(expectedAddressBook, addressBook);
     }
 
+    @Test
+    public void getModificationVersion_everyChange_bumped() throws Exception {
+        Person student = new PersonBuilder().withBirthday(TestDateUtil.getValidStudentBirthday())
+                .withTags(VALID_TAG_STUDENT).build();
+        long version = addressBook.getModificationVersion();
+
+        addressBook.addPerson(student);
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.markAttendance(student, LocalDate.now(), AttendanceStatus.PRESENT);
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.updateFavourite(student, true);
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.unmarkAttendance(student, LocalDate.now());
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.removePerson(student);
+        assertTrue(addressBook.getModificationVersion() > version);
+    }
+
+    @Test
+    public void getModificationVersion_noEffectiveChange_unchanged() throws Exception {
+        Person student = new PersonBuilder().withBirthday(TestDateUtil.getValidStudentBirthday())
+                .withTags(VALID_TAG_STUDENT).build();
+        addressBook.addPerson(student);
+        addressBook.markAttendance(student, LocalDate.now(), AttendanceStatus.LATE);
+        long version = addressBook.getModificationVersion();
+
+        addressBook.markAttendance(student, LocalDate.now(), AttendanceStatus.LATE);
+        addressBook.updateFavourite(student, false);
+        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        addressBook.hasPerson(student);
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
+    @Test
+    public void getClassAttendanceStatistics_everyChange_updated() throws Exception {
+        LocalDate today = LocalDate.now();
+        YearMonth thisMonth = YearMonth.from(today);
+        Person first = new PersonBuilder().withName("First Student").withClass(VALID_CLASS_BOB)
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags(VALID_TAG_STUDENT).build();
+        Person second = new PersonBuilder().withName("Second Student").withClass(VALID_CLASS_BOB)
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags(VALID_TAG_STUDENT).build();
+        first.markAttendance(today, AttendanceStatus.ABSENT);
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        Class studentClass = first.getStudentClass();
+
+        addressBook.markAttendance(second, today, AttendanceStatus.LATE);
+        addressBook.markAttendance(second, today, AttendanceStatus.PRESENT);
+        AttendanceStatistics statistics = addressBook.getClassAttendanceStatistics(studentClass);
+        assertEquals(1, statistics.getCount(AttendanceStatus.ABSENT, thisMonth));
+        assertEquals(1, statistics.getCount(AttendanceStatus.PRESENT, thisMonth));
+        assertEquals(0, statistics.getCount(AttendanceStatus.LATE, thisMonth));
+
+        addressBook.unmarkAttendance(second, today);
+        assertEquals(0, statistics.getCount(AttendanceStatus.PRESENT));
+
+        addressBook.removePerson(first);
+        assertEquals(0, statistics.getCount(AttendanceStatus.ABSENT));
+
+        // Moving a student to another class moves its counts too
+        addressBook.markAttendance(second, today, AttendanceStatus.SICK);
+        Person moved = new PersonBuilder(second).withClass("K9Z").build();
+        addressBook.setPerson(second, moved);
+        assertEquals(0, statistics.getCount(AttendanceStatus.SICK));
+        assertEquals(1, addressBook.getClassAttendanceStatistics(moved.getStudentClass())
+                .getCount(AttendanceStatus.SICK));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(0, addressBook.getClassAttendanceStatistics(moved.getStudentClass())
+                .getCount(AttendanceStatus.SICK));
+    }
+
+    @Test
+    public void getStudentsInClass_everyChange_updated() {
+        Person first = new PersonBuilder().withName("First Student").withClass(VALID_CLASS_BOB)
+                .withTags(VALID_TAG_STUDENT).build();
+        Person second = new PersonBuilder().withName("Second Student").withClass(VALID_CLASS_BOB)
+                .withTags(VALID_TAG_STUDENT).build();
+        Person colleague = new PersonBuilder().withName("A Teacher").withClass(VALID_CLASS_BOB)
+                .withTags(VALID_TAG_COLLEAGUE).build();
+        Class studentClass = first.getStudentClass();
+        addressBook.setPersons(List.of(first, colleague));
+        addressBook.addPerson(second);
+        assertEquals(List.of(first, second), List.copyOf(addressBook.getStudentsInClass(studentClass)));
+
+        Person moved = new PersonBuilder(first).withClass("K9Z").build();
+        addressBook.setPerson(first, moved);
+        assertEquals(List.of(second), List.copyOf(addressBook.getStudentsInClass(studentClass)));
+        assertEquals(List.of(moved), List.copyOf(addressBook.getStudentsInClass(moved.getStudentClass())));
+
+        addressBook.removePerson(second);
+        assertTrue(addressBook.getStudentsInClass(studentClass).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () ->
+                addressBook.getStudentsInClass(moved.getStudentClass()).clear());
+    }
+
+    @Test
+    public void getPersonsByIndexedFields_everyChange_updated() {
+        Person student = new PersonBuilder().withName("First Student").withPhone("91234567")
+                .withEmail("first@example.com").withClass(VALID_CLASS_BOB).withTags(VALID_TAG_STUDENT).build();
+        Person colleague = new PersonBuilder().withName("A Teacher").withPhone("91234567")
+                .withEmail("teacher@example.com").withClass(VALID_CLASS_BOB).withTags(VALID_TAG_COLLEAGUE).build();
+        Class studentClass = student.getStudentClass();
+        Tag studentTag = new Tag(VALID_TAG_STUDENT);
+        addressBook.setPersons(List.of(student));
+        addressBook.addPerson(colleague);
+
+        assertEquals(List.of(student, colleague), List.copyOf(addressBook.getPersonsInClass(studentClass)));
+        assertEquals(List.of(student), List.copyOf(addressBook.getPersonsWithTag(studentTag)));
+        assertEquals(List.of(student, colleague), List.copyOf(addressBook.getPersonsWithPhone(student.getPhone())));
+        assertEquals(List.of(colleague), List.copyOf(addressBook.getPersonsWithEmail(colleague.getEmail())));
+        assertEquals(Set.of(student), addressBook.getPersonsWithNameWordContaining("FIRST"));
+        assertEquals(Set.of(student, colleague), addressBook.getPersonsWithNameWordContaining("t"));
+        assertEquals(Set.of(colleague), addressBook.getPersonsWithNameWordContaining("each"));
+        assertTrue(addressBook.getPersonsWithNameWordContaining("st student").isEmpty());
+        assertEquals(Set.of(student), addressBook.getPersonsWithNameWordSimilarTo("Firts"));
+        assertEquals(Set.of(colleague), addressBook.getPersonsWithNameWordSimilarTo("teachr"));
+        assertEquals(List.of(student), List.copyOf(addressBook.getPersonsWithNameWordSoundingLike("Ferst")));
+        assertEquals(Set.of(studentClass), addressBook.getClasses());
+        assertEquals(Set.of(studentTag, new Tag(VALID_TAG_COLLEAGUE)), addressBook.getTags());
+
+        Person edited = new PersonBuilder(student).withPhone("81234567").withEmail("edited@example.com")
+                .withClass("K9Z").build();
+        addressBook.setPerson(student, edited);
+        assertEquals(List.of(colleague), List.copyOf(addressBook.getPersonsInClass(studentClass)));
+        assertEquals(List.of(edited), List.copyOf(addressBook.getPersonsInClass(edited.getStudentClass())));
+        assertEquals(List.of(edited), List.copyOf(addressBook.getPersonsWithTag(studentTag)));
+        assertEquals(List.of(colleague), List.copyOf(addressBook.getPersonsWithPhone(student.getPhone())));
+        assertEquals(List.of(edited), List.copyOf(addressBook.getPersonsWithPhone(edited.getPhone())));
+        assertTrue(addressBook.getPersonsWithEmail(student.getEmail()).isEmpty());
+
+        addressBook.removePerson(edited);
+        assertTrue(addressBook.getPersonsWithTag(studentTag).isEmpty());
+        assertTrue(addressBook.getPersonsWithNameWordContaining("first").isEmpty());
+        assertEquals(Set.of(colleague), addressBook.getPersonsWithNameWordContaining("t"));
+        assertTrue(addressBook.getPersonsWithNameWordSimilarTo("first").isEmpty());
+        assertTrue(addressBook.getPersonsWithNameWordSoundingLike("first").isEmpty());
+        assertEquals(Set.of(studentClass), addressBook.getClasses());
+        assertEquals(Set.of(new Tag(VALID_TAG_COLLEAGUE)), addressBook.getTags());
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getClasses().clear());
+
+        addressBook.resetData(new AddressBook());
+        assertTrue(addressBook.getPersonsWithPhone(colleague.getPhone()).isEmpty());
+        assertTrue(addressBook.getTags().isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameWordContaining_sharedAndRepeatedWords_updated() {
+        Person repeated = new PersonBuilder().withName("Ann Ann").withPhone("91111111").build();
+        Person sharing = new PersonBuilder().withName("Anna Ann").withPhone("92222222").build();
+        addressBook.setPersons(List.of(repeated, sharing));
+        assertEquals(Set.of(repeated, sharing), addressBook.getPersonsWithNameWordContaining("nn"));
+        assertEquals(Set.of(sharing), addressBook.getPersonsWithNameWordContaining("nna"));
+        // Each matching word counts its persons once, so a person with two such words is counted twice
+        assertEquals(3, addressBook.countPersonsWithNameWordContaining("nn"));
+        assertEquals(1, addressBook.countPersonsWithNameWordContaining("nna"));
+
+        addressBook.removePerson(repeated);
+        assertEquals(Set.of(sharing), addressBook.getPersonsWithNameWordContaining("nn"));
+
+        Person renamed = new PersonBuilder(sharing).withName("Bea Lee").build();
+        addressBook.setPerson(sharing, renamed);
+        assertTrue(addressBook.getPersonsWithNameWordContaining("n").isEmpty());
+        assertEquals(Set.of(renamed), addressBook.getPersonsWithNameWordContaining("e"));
+    }
+
+    @Test
+    public void setPerson_largeSingleTagBook_tagIndexKeptInOrder() {
+        List<Person> students = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            // Names cannot have digits, so each student is named by its number in base 26 letters
+            String letters = Integer.toString(i, 26).chars()
+                    .mapToObj(digit -> String.valueOf((char) ('a' + Character.digit(digit, 26))))
+                    .collect(Collectors.joining());
+            students.add(new PersonBuilder().withName("Student " + letters).withPhone(String.valueOf(80000000 + i))
+                    .withTags(VALID_TAG_STUDENT).build());
+        }
+        addressBook.setPersons(students);
+        Tag studentTag = new Tag(VALID_TAG_STUDENT);
+
+        Person target = students.get(2500);
+        Person edited = new PersonBuilder(target).withName("Edited Student").build();
+        addressBook.setPerson(target, edited);
+
+        List<Person> expected = new ArrayList<>(students);
+        expected.remove(2500);
+        expected.add(edited);
+        assertEquals(expected, List.copyOf(addressBook.getPersonsWithTag(studentTag)));
+        assertFalse(addressBook.getPersonsWithTag(studentTag).contains(target));
+
+        addressBook.removePerson(edited);
+        assertEquals(4999, addressBook.getPersonsWithTag(studentTag).size());
+        assertFalse(addressBook.getPersonsWithTag(studentTag).contains(edited));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -116,6 +330,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationVersion() {
+            return 0;
+        }
     }
 
 }
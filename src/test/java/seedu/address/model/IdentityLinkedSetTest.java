@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IdentityLinkedSetTest {
+
+    @Test
+    public void add_equalButDistinctElements_keptInOrderAdded() {
+        String first = new String("same");
+        String second = new String("same");
+        IdentityLinkedSet<String> set = new IdentityLinkedSet<>();
+
+        assertTrue(set.add(second));
+        assertTrue(set.add(first));
+        assertFalse(set.add(second));
+        assertEquals(2, set.size());
+        assertTrue(set.iterator().next() == second);
+    }
+
+    @Test
+    public void remove_anyPosition_orderOfOthersKept() {
+        IdentityLinkedSet<String> set = new IdentityLinkedSet<>();
+        set.addAll(List.of("a", "b", "c", "d"));
+
+        assertTrue(set.remove("b"));
+        assertTrue(set.remove("d"));
+        assertTrue(set.remove("a"));
+        assertFalse(set.remove("a"));
+        set.add("e");
+        assertEquals(List.of("c", "e"), List.copyOf(set));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        set.add("f");
+        assertEquals(List.of("f"), List.copyOf(set));
+    }
+
+    @Test
+    public void iterator_remove_removesLastReturned() {
+        IdentityLinkedSet<String> set = new IdentityLinkedSet<>();
+        set.addAll(List.of("a", "b", "c"));
+        Iterator<String> iterator = set.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals("c", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(List.of("a", "c"), List.copyOf(set));
+    }
+
+    @Test
+    public void iterator_setChanged_throwsConcurrentModificationException() {
+        IdentityLinkedSet<String> set = new IdentityLinkedSet<>();
+        set.addAll(List.of("a", "b"));
+        Iterator<String> iterator = set.iterator();
+        iterator.next();
+        set.add("c");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -24,7 +24,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.ClassContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
@@ -180,27 +180,6 @@ public class ModelManagerTest {
         assertThrows(NullPointerException.class, () -> modelManager.sortFilteredPersonList(null));
     }
 
-    @Test
-    public void retrieveInitialFavList_returnsCorrectList() {
-        ModelManager modelManager = new ModelManager();
-        Person firstPerson = new PersonBuilder().withName("Alice").withFavourite(true).build();
-        Person secondPerson = new PersonBuilder().withName("Bob").withFavourite(false).build();
-        Person thirdPerson = new PersonBuilder().withName("Charles").withFavourite(true).build();
-
-        // Add the people
-        modelManager.addPerson(firstPerson);
-        modelManager.addPerson(secondPerson);
-        modelManager.addPerson(thirdPerson);
-
-        ArrayList<Index> actualList = modelManager.retrieveInitialFavList();
-        ArrayList<Index> expectedList = new ArrayList<>();
-
-        // From zeroBased indexing, firstPerson will be index 1
-        expectedList.add(Index.fromZeroBased(0));
-        expectedList.add(Index.fromZeroBased(2));
-        assertEquals(actualList, expectedList);
-    }
-
     @Test
     public void updateFilteredPersonListCumulative_returnsCorrectList() {
         ModelManager modelManager = new ModelManager();
@@ -228,6 +207,19 @@ public class ModelManagerTest {
         assertEquals(actualList, expectedList);
     }
 
+    @Test
+    public void updateFilteredPersonListCumulative_indexedPersonEdited_stillFiltered() {
+        ModelManager modelManager = new ModelManager();
+        Person student = new PersonBuilder().withName("Alice").withClass("K1A").build();
+        modelManager.addPerson(student);
+        modelManager.addPerson(new PersonBuilder().withName("Bob Doe").withClass("K2A").build());
+        modelManager.updateFilteredPersonListCumulative(new ClassContainsKeywordsPredicate(List.of("k1")));
+
+        Person edited = new PersonBuilder(student).withName("Alicia").build();
+        modelManager.setPerson(student, edited);
+        assertEquals(List.of(edited), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ClassContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery.Field;
+import seedu.address.model.person.PersonQuery.Match;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+public class PersonQueryPlannerTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonQueryPlanner planner = new PersonQueryPlanner(addressBook);
+
+    private List<Person> filter(PersonQueryPlanner.Plan plan) {
+        return addressBook.getPersonList().stream().filter(plan.getPredicate()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void plan_noFilters_showsAll() {
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(PREDICATE_SHOW_ALL_PERSONS));
+        assertSame(PREDICATE_SHOW_ALL_PERSONS, plan.getPredicate());
+        assertFalse(plan.getIndexedQuery().isPresent());
+    }
+
+    @Test
+    public void plan_stackedQueries_mostSelectiveIndexLookedUp() {
+        TagContainsKeywordsPredicate students = new TagContainsKeywordsPredicate(List.of("student"));
+        ClassContainsKeywordsPredicate kindergartenTwo = new ClassContainsKeywordsPredicate(List.of("k2"));
+        NameContainsKeywordsPredicate meiers = new NameContainsKeywordsPredicate(List.of("meier"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(students, kindergartenTwo, meiers));
+
+        assertEquals(Field.NAME, plan.getIndexedQuery().get().getField());
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(List.of(DANIEL), filter(plan));
+    }
+
+    @Test
+    public void plan_similarNames_lookedUpByTrigrams() {
+        NameSimilarToKeywordsPredicate meyers = new NameSimilarToKeywordsPredicate(List.of("meyr"));
+        ClassContainsKeywordsPredicate kindergartenTwo = new ClassContainsKeywordsPredicate(List.of("k2"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(kindergartenTwo, meyers));
+
+        assertEquals(Match.SIMILAR, plan.getIndexedQuery().get().getMatch());
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(List.of(ELLE), filter(plan));
+    }
+
+    @Test
+    public void plan_commonNameLetter_classLookedUpInstead() {
+        NameContainsKeywordsPredicate withE = new NameContainsKeywordsPredicate(List.of("e"));
+        ClassContainsKeywordsPredicate kindergartenOneB = new ClassContainsKeywordsPredicate(List.of("k1b"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(withE, kindergartenOneB));
+
+        assertEquals(Field.CLASS, plan.getIndexedQuery().get().getField());
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(List.of(BENSON), filter(plan));
+    }
+
+    @Test
+    public void plan_soundAlikeNames_lookedUpByCode() {
+        NameSoundsLikeKeywordsPredicate kurtzes = new NameSoundsLikeKeywordsPredicate(List.of("Kuhrz"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(kurtzes));
+
+        assertEquals(Match.SOUNDS_ALIKE, plan.getIndexedQuery().get().getMatch());
+        assertEquals(List.of(CARL), filter(plan));
+    }
+
+    @Test
+    public void plan_opaqueFilter_testedOnCandidates() {
+        ClassContainsKeywordsPredicate kindergartenOne = new ClassContainsKeywordsPredicate(List.of("k1"));
+        Predicate<Person> notBenson = person -> person != BENSON;
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(notBenson, kindergartenOne));
+
+        assertEquals(Field.CLASS, plan.getIndexedQuery().get().getField());
+        assertEquals(3, plan.getCandidateCount());
+        assertEquals(List.of(ALICE, CARL), filter(plan));
+    }
+
+    @Test
+    public void plan_wholePhoneNumbers_lookedUp() {
+        PhoneContainsKeywordsPredicate phones = new PhoneContainsKeywordsPredicate(List.of("94822240", "12345678"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(phones));
+
+        assertEquals(Field.PHONE, plan.getIndexedQuery().get().getField());
+        assertEquals(List.of(ELLE), filter(plan));
+    }
+
+    @Test
+    public void plan_onlyPartialPhoneNumbers_scansEveryPerson() {
+        PhoneContainsKeywordsPredicate phones = new PhoneContainsKeywordsPredicate(List.of("9482"));
+
+        PersonQueryPlanner.Plan plan = planner.plan(List.of(phones, phones));
+
+        assertFalse(plan.getIndexedQuery().isPresent());
+        assertEquals(addressBook.getPersonList().size(), plan.getCandidateCount());
+        assertEquals(addressBook.getPersonList().stream().filter(phones).collect(Collectors.toList()), filter(plan));
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -12,6 +17,24 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void setHolidays_nullHolidays_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setHolidays(null));
+    }
+
+    @Test
+    public void setHolidays_copiedAndUnmodifiable() {
+        UserPrefs userPrefs = new UserPrefs();
+        Set<LocalDate> holidays = new HashSet<>(Set.of(LocalDate.of(2025, 12, 25)));
+        userPrefs.setHolidays(holidays);
+        holidays.add(LocalDate.of(2026, 1, 1));
+
+        assertEquals(Set.of(LocalDate.of(2025, 12, 25)), userPrefs.getHolidays());
+        assertThrows(UnsupportedOperationException.class, () -> userPrefs.getHolidays().clear());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
     @Test
     public void setAddressBookFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
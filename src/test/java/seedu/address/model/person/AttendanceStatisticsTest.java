@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+
+public class AttendanceStatisticsTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+
+    @Test
+    public void getTermStartAndEnd() {
+        assertEquals(JANUARY, AttendanceStatistics.getTermStart(FEBRUARY));
+        assertEquals(YearMonth.of(2025, 3), AttendanceStatistics.getTermEnd(JANUARY));
+        assertEquals(APRIL, AttendanceStatistics.getTermStart(YearMonth.of(2025, 6)));
+        assertEquals(YearMonth.of(2025, 12), AttendanceStatistics.getTermEnd(YearMonth.of(2025, 10)));
+    }
+
+    @Test
+    public void attendance_markAndUnmark_countsUpdated() throws Exception {
+        Attendance attendance = new Attendance();
+        attendance.markAttendance(LocalDate.of(2025, 1, 6), AttendanceStatus.PRESENT);
+        attendance.markAttendance(LocalDate.of(2025, 1, 7), AttendanceStatus.LATE);
+        attendance.markAttendance(LocalDate.of(2025, 2, 3), AttendanceStatus.ABSENT);
+        attendance.markAttendance(LocalDate.of(2025, 4, 1), AttendanceStatus.PRESENT);
+
+        // Changing a status moves the record between counts
+        attendance.markAttendance(LocalDate.of(2025, 1, 7), AttendanceStatus.PRESENT);
+        attendance.markAttendance(LocalDate.of(2025, 1, 7), AttendanceStatus.PRESENT);
+        attendance.unmarkAttendance(LocalDate.of(2025, 4, 1));
+
+        AttendanceStatistics statistics = attendance.getStatistics();
+        assertEquals(2, statistics.getCount(AttendanceStatus.PRESENT));
+        assertEquals(0, statistics.getCount(AttendanceStatus.LATE));
+        assertEquals(2, statistics.getCount(AttendanceStatus.PRESENT, JANUARY));
+        assertEquals(1, statistics.getCount(AttendanceStatus.ABSENT, FEBRUARY));
+        assertEquals(0, statistics.getCount(AttendanceStatus.PRESENT, APRIL));
+        assertEquals(3, statistics.getTotal(JANUARY, APRIL));
+        assertEquals(100.0 * 2 / 3, statistics.getTermPercentage(AttendanceStatus.PRESENT, FEBRUARY), 1e-9);
+        assertEquals(0, statistics.getTermPercentage(AttendanceStatus.PRESENT, APRIL));
+    }
+
+    @Test
+    public void addAndSubtract_inverse() {
+        AttendanceStatistics total = new AttendanceStatistics();
+        AttendanceStatistics first = new AttendanceStatistics();
+        first.record(LocalDate.of(2025, 1, 6), AttendanceStatus.SICK);
+        AttendanceStatistics second = new AttendanceStatistics();
+        second.record(LocalDate.of(2025, 1, 6), AttendanceStatus.SICK);
+        second.record(LocalDate.of(2025, 2, 6), AttendanceStatus.LATE);
+
+        total.add(first);
+        total.add(second);
+        assertEquals(2, total.getCount(AttendanceStatus.SICK, JANUARY));
+        assertEquals(3, total.getTotal(JANUARY, FEBRUARY));
+
+        total.subtract(second);
+        assertEquals(1, total.getCount(AttendanceStatus.SICK));
+        assertEquals(0, total.getCount(AttendanceStatus.LATE, FEBRUARY));
+    }
+
+    @Test
+    public void record_acrossYears_countedPerMonth() {
+        AttendanceStatistics statistics = new AttendanceStatistics();
+        statistics.record(LocalDate.of(2025, 1, 6), AttendanceStatus.PRESENT);
+        statistics.record(LocalDate.of(2023, 12, 29), AttendanceStatus.ABSENT);
+        statistics.record(LocalDate.of(2026, 12, 1), AttendanceStatus.LATE);
+
+        assertEquals(1, statistics.getCount(AttendanceStatus.ABSENT, YearMonth.of(2023, 12)));
+        assertEquals(0, statistics.getCount(AttendanceStatus.ABSENT, YearMonth.of(2024, 12)));
+        assertEquals(1, statistics.getCount(AttendanceStatus.LATE, YearMonth.of(2026, 12)));
+        assertEquals(0, statistics.getCount(AttendanceStatus.LATE, YearMonth.of(2027, 1)));
+        assertEquals(3, statistics.getTotal(YearMonth.of(2022, 1), YearMonth.of(2027, 12)));
+
+        AttendanceStatistics total = new AttendanceStatistics();
+        total.record(LocalDate.of(2024, 6, 3), AttendanceStatus.SICK);
+        total.add(statistics);
+        assertEquals(4, total.getTotal(YearMonth.of(2023, 12), YearMonth.of(2026, 12)));
+        total.subtract(statistics);
+        assertEquals(1, total.getTotal(YearMonth.of(2023, 12), YearMonth.of(2026, 12)));
+    }
+
+    @Test
+    public void copyConstructor_laterChanges_notShared() {
+        AttendanceStatistics statistics = new AttendanceStatistics();
+        statistics.record(LocalDate.of(2025, 1, 6), AttendanceStatus.PRESENT);
+        AttendanceStatistics copy = new AttendanceStatistics(statistics);
+        statistics.record(LocalDate.of(2025, 1, 7), AttendanceStatus.PRESENT);
+        assertEquals(1, copy.getCount(AttendanceStatus.PRESENT, JANUARY));
+    }
+
+    @Test
+    public void record_removeStatus_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AttendanceStatistics().record(LocalDate.of(2025, 1, 6), AttendanceStatus.REMOVE));
+    }
+
+    @Test
+    public void formatSummary() {
+        AttendanceStatistics statistics = new AttendanceStatistics();
+        statistics.record(LocalDate.of(2025, 1, 6), AttendanceStatus.PRESENT);
+        statistics.record(LocalDate.of(2025, 2, 6), AttendanceStatus.ABSENT);
+        assertEquals("Term 1, 2025: 50.0% present (1 of 2 days), 0 late, 0 sick, 1 absent\n"
+                + "Feb 2025: 0 present, 0 late, 0 sick, 1 absent", statistics.formatSummary(FEBRUARY));
+    }
+}
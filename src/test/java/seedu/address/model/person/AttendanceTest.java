@@ -2,15 +2,23 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
+
 public class AttendanceTest {
 
     private final Attendance attendance = new Attendance();
@@ -57,15 +65,36 @@ public class AttendanceTest {
     }
 
     @Test
-    public void getAttendanceRecords_nonEmptyAttendance_returnsCopy() {
+    public void markAttendance_dateBatch_countsChangedDates() {
+        LocalDate start = LocalDate.of(2024, 12, 30);
+        List<LocalDate> dates = start.datesUntil(start.plusDays(5)).toList();
+        attendance.markAttendance(start, AttendanceStatus.PRESENT);
+
+        assertEquals(4, attendance.markAttendance(dates, AttendanceStatus.PRESENT));
+        assertEquals(0, attendance.markAttendance(dates, AttendanceStatus.PRESENT));
+        assertEquals(5, attendance.countRecords(AttendanceStatus.PRESENT, start, start.plusDays(4)));
+        assertEquals(5, attendance.getStatistics().getCount(AttendanceStatus.PRESENT));
+
+        // Unmarking skips dates without records
+        assertEquals(2, attendance.unmarkAttendance(List.of(start, start.plusDays(2), start.plusDays(10))));
+        assertEquals(3, attendance.countRecords(start, start.plusDays(4)));
+        assertEquals(3, attendance.getStatistics().getCount(AttendanceStatus.PRESENT));
+        assertNull(attendance.getStatus(start.plusDays(2)));
+    }
+
+    @Test
+    public void getAttendanceRecords_nonEmptyAttendance_returnsReadOnlyView() {
         LocalDate date = LocalDate.of(2024, 1, 15);
         attendance.markAttendance(date, AttendanceStatus.PRESENT);
 
         Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecords();
-        records.put(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                records.put(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE));
 
-        // Original should not be modified
-        assertEquals(1, attendance.getAttendanceRecords().size());
+        // Later changes show up in the view
+        attendance.markAttendance(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE);
+        assertEquals(2, records.size());
+        assertEquals(AttendanceStatus.LATE, records.get(LocalDate.of(2024, 1, 16)));
     }
 
     @Test
@@ -92,16 +121,15 @@ public class AttendanceTest {
     }
 
     @Test
-    public void getAttendanceRecordsForMonth_nonEmptyAttendance_returnsCopy() {
+    public void getAttendanceRecordsForMonth_nonEmptyAttendance_returnsReadOnlyView() {
         LocalDate date1 = LocalDate.of(2024, 1, 15);
 
         attendance.markAttendance(date1, AttendanceStatus.PRESENT);
 
         YearMonth targetMonth = YearMonth.of(2024, 1);
         Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecordsForMonth(targetMonth);
-        records.put(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE);
-
-        // Original should not be modified
+        assertThrows(UnsupportedOperationException.class, () ->
+                records.put(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE));
         assertEquals(1, attendance.getAttendanceRecords().size());
     }
 
@@ -256,4 +284,175 @@ public class AttendanceTest {
         String expected = "{" + date + "=PRESENT}";
         assertEquals(expected, attendance.toString());
     }
+
+    @Test
+    public void getAttendanceRecords_recordsAcrossYears_inDateOrder() {
+        LocalDate lastDayOfLeapYear = LocalDate.of(2024, 12, 31);
+        LocalDate firstDayOfYear = LocalDate.of(2025, 1, 1);
+        LocalDate earlierYear = LocalDate.of(2022, 3, 1);
+        attendance.markAttendance(firstDayOfYear, AttendanceStatus.SICK);
+        attendance.markAttendance(lastDayOfLeapYear, AttendanceStatus.LATE);
+        attendance.markAttendance(earlierYear, AttendanceStatus.ABSENT);
+
+        assertEquals(List.of(earlierYear, lastDayOfLeapYear, firstDayOfYear),
+                new ArrayList<>(attendance.getAttendanceRecords().keySet()));
+        assertEquals(List.of(lastDayOfLeapYear, firstDayOfYear), new ArrayList<>(attendance.getAttendanceRecords(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31)).keySet()));
+        assertEquals(AttendanceStatus.SICK, attendance.getStatus(firstDayOfYear));
+        assertNull(attendance.getStatus(LocalDate.of(2023, 3, 1)));
+    }
+
+    @Test
+    public void markAttendance_changeStatus_updatedInPlace() {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        assertTrue(attendance.markAttendance(date, AttendanceStatus.ABSENT));
+        assertTrue(attendance.markAttendance(date, AttendanceStatus.PRESENT));
+        assertFalse(attendance.markAttendance(date, AttendanceStatus.PRESENT));
+        assertEquals(1, attendance.size());
+        assertEquals(AttendanceStatus.PRESENT, attendance.getStatus(date));
+    }
+
+    @Test
+    public void markAttendance_removeStatus_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                attendance.markAttendance(LocalDate.of(2024, 1, 15), AttendanceStatus.REMOVE));
+    }
+
+    @Test
+    public void unmarkAttendance_markedDate_removed() throws Exception {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.markAttendance(date, AttendanceStatus.LATE);
+        assertTrue(attendance.unmarkAttendance(date));
+        assertTrue(attendance.isEmpty());
+        assertThrows(NoAttendanceRecordException.class, () -> attendance.unmarkAttendance(date));
+        assertThrows(NoAttendanceRecordException.class, () -> attendance.unmarkAttendance(date.withYear(1999)));
+    }
+
+    @Test
+    public void copyConstructor_laterChanges_notShared() {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.markAttendance(date, AttendanceStatus.LATE);
+        Attendance copy = new Attendance(attendance);
+        assertEquals(attendance, copy);
+
+        attendance.markAttendance(date, AttendanceStatus.SICK);
+        attendance.markAttendance(date.minusYears(1), AttendanceStatus.SICK);
+        assertEquals(AttendanceStatus.LATE, copy.getStatus(date));
+        assertEquals(1, copy.size());
+    }
+
+    @Test
+    public void getAttendanceRecordsForWeek_mondayToSunday() {
+        // 15 Jan 2024 is a Monday
+        attendance.markAttendance(LocalDate.of(2024, 1, 14), AttendanceStatus.PRESENT);
+        attendance.markAttendance(LocalDate.of(2024, 1, 15), AttendanceStatus.LATE);
+        attendance.markAttendance(LocalDate.of(2024, 1, 21), AttendanceStatus.SICK);
+        attendance.markAttendance(LocalDate.of(2024, 1, 22), AttendanceStatus.ABSENT);
+
+        Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecordsForWeek(LocalDate.of(2024, 1, 18));
+        assertEquals(List.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 21)), new ArrayList<>(records.keySet()));
+        assertEquals(2, records.size());
+    }
+
+    @Test
+    public void getAttendanceRecords_range_navigable() {
+        LocalDate first = LocalDate.of(2023, 12, 30);
+        LocalDate second = LocalDate.of(2024, 1, 2);
+        LocalDate third = LocalDate.of(2024, 3, 5);
+        attendance.markAttendance(first, AttendanceStatus.PRESENT);
+        attendance.markAttendance(second, AttendanceStatus.LATE);
+        attendance.markAttendance(third, AttendanceStatus.SICK);
+
+        SortedMap<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecords(
+                LocalDate.of(2023, 12, 31), LocalDate.of(2024, 12, 31));
+        assertEquals(2, records.size());
+        assertEquals(second, records.firstKey());
+        assertEquals(third, records.lastKey());
+        assertEquals(third, attendance.getAttendanceRecords().lastKey());
+        assertEquals(first, attendance.getAttendanceRecords().firstKey());
+
+        assertEquals(Map.of(second, AttendanceStatus.LATE), records.headMap(third));
+        assertEquals(Map.of(third, AttendanceStatus.SICK), records.tailMap(LocalDate.of(2024, 1, 3)));
+        assertTrue(records.subMap(LocalDate.of(2024, 1, 3), third).isEmpty());
+        assertThrows(NoSuchElementException.class, () ->
+                attendance.getAttendanceRecords(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)).lastKey());
+    }
+
+    @Test
+    public void formatAttendanceRecords_range_onlyRecordsInRange() {
+        attendance.markAttendance(LocalDate.of(2024, 1, 15), AttendanceStatus.PRESENT);
+        attendance.markAttendance(LocalDate.of(2024, 1, 20), AttendanceStatus.LATE);
+
+        assertEquals("20 Jan 2024 → late",
+                attendance.formatAttendanceRecords(LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 31)));
+        assertEquals("", attendance.formatAttendanceRecords(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    public void countRecords_acrossYears_matchesRecordsInRange() {
+        AttendanceStatus[] statuses = {AttendanceStatus.PRESENT, AttendanceStatus.LATE, AttendanceStatus.SICK,
+            AttendanceStatus.ABSENT};
+        LocalDate date = LocalDate.of(2023, 11, 1);
+        for (int i = 0; i < 200; i += 3) {
+            attendance.markAttendance(date.plusDays(i), statuses[i % statuses.length]);
+        }
+
+        LocalDate start = LocalDate.of(2023, 12, 20);
+        LocalDate end = LocalDate.of(2024, 3, 10);
+        Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecords(start, end);
+        for (AttendanceStatus status : statuses) {
+            long expected = records.values().stream().filter(status::equals).count();
+            assertEquals(expected, attendance.countRecords(status, start, end));
+        }
+        assertEquals(records.size(), attendance.countRecords(start, end));
+        assertEquals(0, attendance.countRecords(end, start));
+        assertEquals(0, attendance.countRecords(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31)));
+    }
+
+    @Test
+    public void countRecords_wholeYearsAndUnmarkedDays_matchesRecordsInRange() throws Exception {
+        AttendanceStatus[] statuses = {AttendanceStatus.PRESENT, AttendanceStatus.LATE, AttendanceStatus.SICK,
+            AttendanceStatus.ABSENT};
+        LocalDate date = LocalDate.of(2021, 1, 1);
+        for (int i = 0; !date.plusDays(i).isAfter(LocalDate.of(2024, 12, 31)); i += 2) {
+            attendance.markAttendance(date.plusDays(i), statuses[i / 2 % statuses.length]);
+        }
+        // Unmarked days keep no status, whatever was marked on them before
+        for (int i = 0; i < 1000; i += 6) {
+            attendance.unmarkAttendance(date.plusDays(i));
+        }
+
+        for (LocalDate start = LocalDate.of(2020, 12, 25); start.getYear() < 2025; start = start.plusDays(97)) {
+            LocalDate end = LocalDate.of(2024, 12, 31).minusDays(start.getDayOfYear());
+            Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecords(start, end);
+            for (AttendanceStatus status : statuses) {
+                long expected = records.values().stream().filter(status::equals).count();
+                assertEquals(expected, attendance.countRecords(status, start, end));
+            }
+            assertEquals(records.size(), attendance.countRecords(start, end));
+        }
+        assertEquals(AttendanceStatus.SICK, attendance.getStatus(LocalDate.of(2024, 12, 31)));
+        assertEquals(1, attendance.countRecords(AttendanceStatus.SICK, LocalDate.of(2024, 12, 31), LocalDate.MAX));
+    }
+
+    @Test
+    public void countRecords_afterChanges_updated() throws Exception {
+        LocalDate first = LocalDate.of(2024, 2, 1);
+        LocalDate second = LocalDate.of(2024, 2, 2);
+        attendance.markAttendance(first, AttendanceStatus.PRESENT);
+        attendance.markAttendance(second, AttendanceStatus.PRESENT);
+        assertEquals(2, attendance.countRecords(AttendanceStatus.PRESENT, first, second));
+
+        attendance.markAttendance(second, AttendanceStatus.ABSENT);
+        assertEquals(1, attendance.countRecords(AttendanceStatus.PRESENT, first, second));
+        assertEquals(1, attendance.countRecords(AttendanceStatus.ABSENT, first, second));
+
+        attendance.unmarkAttendance(first);
+        assertEquals(0, attendance.countRecords(AttendanceStatus.PRESENT, first, second));
+
+        // A record in an earlier year shifts the counts of later years
+        attendance.markAttendance(LocalDate.of(2022, 5, 5), AttendanceStatus.ABSENT);
+        assertEquals(1, attendance.countRecords(AttendanceStatus.ABSENT, first, second));
+        assertEquals(2, attendance.countRecords(AttendanceStatus.ABSENT, LocalDate.MIN, LocalDate.MAX));
+    }
 }
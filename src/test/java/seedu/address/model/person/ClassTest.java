@@ -115,4 +115,9 @@ public class ClassTest {
         Class studentClass = new Class("K2C");
         assertEquals("K2C", studentClass.toString());
     }
+
+    @Test
+    public void getFoldedValue() {
+        assertEquals("k2c", new Class("K2C").getFoldedValue());
+    }
 }
@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchingPersonsPredicateTest {
+
+    @Test
+    public void equals() {
+        MatchingPersonsPredicate firstPredicate = new MatchingPersonsPredicate(List.of(ALICE));
+        MatchingPersonsPredicate secondPredicate = new MatchingPersonsPredicate(List.of(ALICE, BENSON));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new MatchingPersonsPredicate(List.of(ALICE, ALICE))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different persons -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_givenPerson_returnsTrue() {
+        MatchingPersonsPredicate predicate = new MatchingPersonsPredicate(List.of(ALICE, BENSON));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertEquals(2, predicate.size());
+    }
+
+    @Test
+    public void test_equalButDifferentPerson_returnsFalse() {
+        MatchingPersonsPredicate predicate = new MatchingPersonsPredicate(List.of(ALICE));
+        assertFalse(predicate.test(new PersonBuilder(ALICE).build()));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Match;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new NameSimilarToKeywordsPredicate(firstPredicateKeywordList));
+
+        // different types -> returns false
+        assertNotEquals(firstPredicate, new NameContainsKeywordsPredicate(firstPredicateKeywordList));
+
+        // null -> returns false
+        assertNotEquals(firstPredicate, null);
+
+        // different keywords -> returns false
+        assertNotEquals(firstPredicate, secondPredicate);
+    }
+
+    @Test
+    public void test_nameSpeltAlike_returnsTrue() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Aisyah", "bob"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Nur Aishah").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Aisyah Rahman").build()));
+        assertEquals(Match.SIMILAR, predicate.getMatch());
+    }
+
+    @Test
+    public void test_nameNotSpeltAlike_returnsFalse() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Aisyah"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ahmad Ali").build()));
+        assertFalse(new NameSimilarToKeywordsPredicate(Collections.emptyList())
+                .test(new PersonBuilder().withName("Aisyah").build()));
+    }
+
+    @Test
+    public void getSimilarity() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Aisyah"));
+        assertEquals(1.0, predicate.getSimilarity(new PersonBuilder().withName("Aisyah Rahman").build()));
+        assertTrue(predicate.getSimilarity(new PersonBuilder().withName("Nur Aishah").build()) < 1.0);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
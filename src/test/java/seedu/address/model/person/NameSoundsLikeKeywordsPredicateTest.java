@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Match;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSoundsLikeKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSoundsLikeKeywordsPredicate firstPredicate = new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList);
+        NameSoundsLikeKeywordsPredicate secondPredicate =
+                new NameSoundsLikeKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList));
+
+        // different types -> returns false
+        assertNotEquals(firstPredicate, new NameSimilarToKeywordsPredicate(firstPredicateKeywordList));
+
+        // null -> returns false
+        assertNotEquals(firstPredicate, null);
+
+        // different keywords -> returns false
+        assertNotEquals(firstPredicate, secondPredicate);
+    }
+
+    @Test
+    public void test_nameSoundsAlike_returnsTrue() {
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Smyth", "Jon"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Jane Smith").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Tan").build()));
+        assertTrue(predicate.matchesWord("schmidt"));
+        assertEquals(Match.SOUNDS_ALIKE, predicate.getMatch());
+    }
+
+    @Test
+    public void test_nameDoesNotSoundAlike_returnsFalse() {
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Smyth"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Sam Tan").build()));
+        assertFalse(new NameSoundsLikeKeywordsPredicate(Collections.emptyList())
+                .test(new PersonBuilder().withName("Smith").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(keywords);
+
+        String expected = NameSoundsLikeKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -235,4 +237,15 @@ public class NameTest {
         // We just test that hashCode() doesn't throw exceptions
         name3.hashCode();
     }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(List.of("mary-jane", "o'connor"), new Name("  Mary-Jane   O'Connor ").getFoldedWords());
+    }
+
+    @Test
+    public void getPhoneticCodes() {
+        assertEquals(List.of("m625", "o256"), new Name("Mary-Jane O'Connor").getPhoneticCodes());
+        assertEquals(List.of("a500"), new Name("Ann Anne").getPhoneticCodes());
+    }
 }
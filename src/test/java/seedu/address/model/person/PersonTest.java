@@ -216,7 +216,7 @@ public class PersonTest {
         Person student = new PersonBuilder().withTags("student").build();
 
         assertThrows(AssertionError.class, () ->
-                student.markAttendance(null, AttendanceStatus.PRESENT));
+                student.markAttendance((LocalDate) null, AttendanceStatus.PRESENT));
     }
 
     @Test
@@ -240,6 +240,19 @@ public class PersonTest {
         assertEquals(AttendanceStatus.PRESENT, records.get(today));
     }
 
+    @Test
+    public void copy_laterChangesToOriginal_notInCopy() throws CommandException {
+        LocalDate today = LocalDate.of(2025, 10, 9);
+        Person person = new PersonBuilder().withTags("student").withBirthday("01-01-2024").build();
+        Person copy = person.copy();
+        assertEquals(person, copy);
+
+        person.markAttendance(today, AttendanceStatus.PRESENT);
+        person.updateFavourite(true);
+        assertTrue(copy.getAttendanceRecords().isEmpty());
+        assertFalse(copy.getIsFavBoolean());
+    }
+
     @Test
     public void markAttendance_dateBeforeBirthday_throwsInvalidDateException() {
         Person person = new PersonBuilder().withTags("student").withBirthday("01-01-2024").build();
@@ -272,7 +285,7 @@ public class PersonTest {
         Person student = new PersonBuilder().withTags("student").build();
 
         assertThrows(AssertionError.class, () ->
-                student.unmarkAttendance(null));
+                student.unmarkAttendance((LocalDate) null));
     }
 
     @Test
@@ -307,6 +320,20 @@ public class PersonTest {
         assertThrows(InvalidDateException.class, () -> student.unmarkAttendance(date));
     }
 
+    @Test
+    public void unmarkAttendance_noRecord_revisionUnchanged() throws Exception {
+        Person student = new PersonBuilder().withTags("student").withBirthday("01-01-2024").build();
+        LocalDate date = LocalDate.of(2024, 1, 2);
+        int revision = student.getRevision();
+
+        assertThrows(NoAttendanceRecordException.class, () -> student.unmarkAttendance(date));
+        assertEquals(revision, student.getRevision());
+
+        student.markAttendance(date, AttendanceStatus.PRESENT);
+        assertTrue(student.unmarkAttendance(date));
+        assertEquals(revision + 2, student.getRevision());
+    }
+
     @Test
     public void unmarkAttendance_colleague_failure() throws InvalidDateException, NoAttendanceRecordException {
         Person student = new PersonBuilder().withTags("colleague").withBirthday("01-01-2024").build();
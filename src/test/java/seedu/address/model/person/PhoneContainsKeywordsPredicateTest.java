@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -194,6 +196,21 @@ public class PhoneContainsKeywordsPredicateTest {
         assertEquals(predicate1.hashCode(), predicate2.hashCode());
     }
 
+    @Test
+    public void getExactValues() {
+        // whole phone numbers -> looked up
+        assertEquals(Optional.of(Set.of("91234567", "61234567")),
+                new PhoneContainsKeywordsPredicate(Arrays.asList("91234567", "61234567")).getExactValues());
+
+        // numbers that cannot be phones -> nothing to look up
+        assertEquals(Optional.of(Set.of()),
+                new PhoneContainsKeywordsPredicate(Arrays.asList("12345678", "912345678")).getExactValues());
+
+        // any partial number -> must be tested against each person
+        assertEquals(Optional.empty(),
+                new PhoneContainsKeywordsPredicate(Arrays.asList("91234567", "9123")).getExactValues());
+    }
+
     @Test
     public void test_allValidSingaporePhoneFormats_returnsTrue() {
         PhoneContainsKeywordsPredicate predicate;
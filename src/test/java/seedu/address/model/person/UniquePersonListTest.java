@@ -13,8 +13,10 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -49,6 +51,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_colleagueWithSameEmailInList_returnsTrue() {
+        Person colleague = new PersonBuilder(ALICE).withTags(VALID_TAG_COLLEAGUE).build();
+        uniquePersonList.add(colleague);
+        Person sameEmailColleague = new PersonBuilder(BOB).withEmail(colleague.getEmail().value)
+                .withTags(VALID_TAG_COLLEAGUE).build();
+        assertTrue(uniquePersonList.contains(sameEmailColleague));
+    }
+
+    @Test
+    public void contains_studentWithSameIdentityAsColleague_returnsFalse() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withTags(VALID_TAG_COLLEAGUE).build());
+        assertFalse(uniquePersonList.contains(new PersonBuilder(ALICE).withTags(VALID_TAG_STUDENT).build()));
+    }
+
+    @Test
+    public void contains_personWithoutContactType_onlyMatchesItself() {
+        Person untagged = new PersonBuilder(ALICE).withTags().build();
+        uniquePersonList.add(untagged);
+        assertTrue(uniquePersonList.contains(untagged));
+        assertFalse(uniquePersonList.contains(new PersonBuilder(ALICE).withTags().build()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -111,6 +136,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void sortPersons_returnsWhetherOrderChanged() {
+        Comparator<Person> byName = Comparator.comparing(person -> person.getName().fullName);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.sortPersons(byName));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.sortPersons(byName));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +171,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -156,6 +201,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -164,6 +211,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithManyDuplicatePersons_reportsAllDuplicates() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice, BOB);
+        DuplicatePersonException thrown = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Arrays.asList(editedAlice, BOB), thrown.getDuplicates());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
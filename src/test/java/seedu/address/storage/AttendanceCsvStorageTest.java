@@ -1,15 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.storage.AttendanceCsvStorage.CsvContent;
+import seedu.address.storage.AttendanceCsvStorage.CsvSaveResult;
+
 public class AttendanceCsvStorageTest {
 
     @TempDir
@@ -30,4 +38,60 @@ public class AttendanceCsvStorageTest {
         assertTrue(Files.exists(path));
         assertEquals(csvContent, Files.readString(path));
     }
+
+    @Test
+    void saveAttendanceCsv_streamedContent_savesFileWithUniqueName() throws IOException {
+        AttendanceCsvStorage.setDataDirectory(tempDir.resolve("reports"));
+        String fileName = "class_attendance.csv";
+
+        AttendanceCsvStorage.saveAttendanceCsv("first", fileName);
+        String filePath = AttendanceCsvStorage.saveAttendanceCsv(writer -> {
+            writer.write("Name,Status\n");
+            writer.write("John Doe,PRESENT\n");
+        }, fileName);
+
+        assertEquals("first", Files.readString(Path.of(filePath).resolve(fileName)));
+        assertEquals("Name,Status\nJohn Doe,PRESENT\n",
+                Files.readString(Path.of(filePath).resolve("class_attendance(2).csv")));
+    }
+
+    @Test
+    void saveAttendanceCsv_writeFails_partialFileDeleted() {
+        AttendanceCsvStorage.setDataDirectory(tempDir);
+
+        assertThrows(IOException.class, () -> AttendanceCsvStorage.saveAttendanceCsv(writer -> {
+            writer.write("Name,Status\n");
+            throw new IOException("disk full");
+        }, "failed.csv"));
+        assertFalse(Files.exists(tempDir.resolve("failed.csv")));
+    }
+
+    @Test
+    void saveAttendanceCsvs_oneFileFails_othersSaved() throws IOException {
+        AttendanceCsvStorage.setDataDirectory(tempDir);
+        Map<String, CsvContent> files = new LinkedHashMap<>();
+        for (int i = 1; i <= 6; i++) {
+            String content = "K" + i;
+            files.put("K" + i + "_attendance.csv", writer -> writer.write(content));
+        }
+        files.put("K3_attendance.csv", writer -> {
+            throw new IOException("disk full");
+        });
+
+        List<CsvSaveResult> results = AttendanceCsvStorage.saveAttendanceCsvs(files);
+
+        assertEquals(6, results.size());
+        for (int i = 1; i <= 6; i++) {
+            CsvSaveResult result = results.get(i - 1);
+            assertEquals("K" + i + "_attendance.csv", result.getFileName());
+            if (i == 3) {
+                assertFalse(result.isSaved());
+                assertEquals("disk full", result.getError().getMessage());
+                assertFalse(Files.exists(tempDir.resolve(result.getFileName())));
+            } else {
+                assertTrue(result.isSaved());
+                assertEquals("K" + i, Files.readString(tempDir.resolve(result.getSavedFileName())));
+            }
+        }
+    }
 }
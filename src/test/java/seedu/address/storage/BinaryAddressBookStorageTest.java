@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final FileTime EARLIER = FileTime.from(Instant.parse("2024-01-01T00:00:00Z"));
+    private static final FileTime LATER = FileTime.from(Instant.parse("2024-06-01T00:00:00Z"));
+
+    @TempDir
+    public Path testFolder;
+
+    private static Person buildStudent(String name, String phone) {
+        return new PersonBuilder().withName(name).withPhone(phone).withEmail(name.replace(" ", "") + "@example.com")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+    }
+
+    private static AddressBook buildAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(buildStudent("Alice Pauline", "94351253"));
+        addressBook.addPerson(buildStudent("Benson Meier", "98765432"));
+        addressBook.addPerson(buildStudent("Daniel Meier", "87652533"));
+
+        Person alice = addressBook.getPersonList().get(0);
+        LocalDate today = LocalDate.now();
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        for (int i = 0; i < 9; i++) {
+            alice.markAttendance(today.minusDays(i), statuses[i % (statuses.length - 1)]);
+        }
+        addressBook.getPersonList().get(2).updateFavourite(true);
+        return addressBook;
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "ab.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "ab.json")));
+        assertEquals(Paths.get("data", "ab.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "ab")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.writeString(filePath, "{\"persons\": []}");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(buildAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_roundTrip_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = buildAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            Person expected = original.getPersonList().get(i);
+            Person actual = readBack.getPersonList().get(i);
+            assertEquals(expected.getAttendanceRecords(), actual.getAttendanceRecords());
+            assertEquals(expected.getIsFavBoolean(), actual.getIsFavBoolean());
+        }
+        assertEquals(Files.size(filePath), storage.getBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = buildAddressBook();
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = buildAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook previousGeneration = new AddressBook(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+
+        Files.writeString(filePath, "garbage");
+        assertEquals(previousGeneration, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateIfNewer_jsonToBinaryAndBack_success() throws Exception {
+        AddressBook original = buildAddressBook();
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookFormatMigrator.migrateIfNewer(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // Target is newer than the source
+        assertFalse(AddressBookFormatMigrator.migrateIfNewer(jsonStorage, binaryStorage));
+
+        Files.delete(jsonFilePath);
+        assertTrue(AddressBookFormatMigrator.migrateIfNewer(binaryStorage, jsonStorage));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateIfNewer_sourceMissing_nothingMigrated() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertFalse(AddressBookFormatMigrator.migrateIfNewer(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void migrateIfNewer_targetNewer_nothingMigrated() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        jsonStorage.saveAddressBook(buildAddressBook());
+        AddressBook newer = buildAddressBook();
+        newer.addPerson(buildStudent("Carl Kurz", "95352563"));
+        binaryStorage.saveAddressBook(newer);
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), LATER);
+
+        assertFalse(AddressBookFormatMigrator.migrateIfNewer(jsonStorage, binaryStorage));
+        assertEquals(newer, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateIfNewer_sourceNewer_migrated() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        binaryStorage.saveAddressBook(buildAddressBook());
+        AddressBook newer = buildAddressBook();
+        newer.addPerson(buildStudent("Carl Kurz", "95352563"));
+        jsonStorage.saveAddressBook(newer);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), LATER);
+
+        assertTrue(AddressBookFormatMigrator.migrateIfNewer(jsonStorage, binaryStorage));
+        assertEquals(newer, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertTrue(Files.exists(jsonStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void migrateIfNewer_changesOnlyInJournal_migratedWithJournal() throws Exception {
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = buildAddressBook();
+        journalStorage.saveAddressBook(original);
+        binaryStorage.saveAddressBook(original);
+        original.addPerson(buildStudent("Carl Kurz", "95352563"));
+        journalStorage.saveAddressBook(original);
+        Files.setLastModifiedTime(journalStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(JournalAddressBookStorage.getJournalFilePath(journalStorage.getAddressBookFilePath()),
+                LATER);
+
+        assertTrue(AddressBookFormatMigrator.migrateIfNewer(journalStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+}
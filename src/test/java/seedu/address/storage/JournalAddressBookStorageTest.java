@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static Person buildStudent(String name, String phone) {
+        return new PersonBuilder().withName(name).withPhone(phone).withEmail(name.replace(" ", "") + "@example.com")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").build();
+    }
+
+    private static AddressBook buildAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(buildStudent("Alice Pauline", "94351253"));
+        addressBook.addPerson(buildStudent("Benson Meier", "98765432"));
+        addressBook.addPerson(buildStudent("Daniel Meier", "87652533"));
+        addressBook.addPerson(buildStudent("Elle Meyer", "94822240"));
+        return addressBook;
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterCheckpoint_appendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot and an empty journal
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+        String snapshot = Files.readString(filePath);
+
+        // Later changes only go to the journal
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+        Person daniel = original.getPersonList().get(2);
+        daniel.markAttendance(LocalDate.now(), AttendanceStatus.SICK);
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournal(filePath).size());
+        assertEquals(snapshot, Files.readString(filePath));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(AttendanceStatus.SICK,
+                readBack.getPersonList().get(1).getAttendanceRecords().get(LocalDate.now()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_checkpointed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+
+        original.sortPersons(Comparator.comparing(person -> person.getPhone().value));
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_staleJournalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+
+        // Snapshot overwritten behind the journal's back, e.g. by the plain json storage
+        AddressBook replacement = buildAddressBook();
+        replacement.removePerson(replacement.getPersonList().get(0));
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(replacement, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_snapshotMissing_recoveredFromBackupWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, true);
+        storage.checkpoint(original);
+        AddressBook previousGeneration = new AddressBook(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.checkpoint(original);
+        original.addPerson(buildStudent("George Best", "94824420"));
+        storage.saveAddressBook(original);
+
+        Files.delete(filePath);
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(previousGeneration, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_stoppedWhileReplacingSnapshot_journalReplayedOnBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, true);
+        storage.checkpoint(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+
+        // Checkpointing stopped after moving the snapshot to its backup, before moving the new snapshot in
+        Files.move(filePath, JsonAddressBookStorage.getBackupFilePath(filePath));
+        JournalAddressBookStorage recoveringStorage = new JournalAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook readBack = recoveringStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // The next save writes a new snapshot rather than appending to the journal
+        original.addPerson(buildStudent("George Best", "94824420"));
+        recoveringStorage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignoredAndCheckpointedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(buildStudent("Fiona Kunz", "94824270"));
+        storage.saveAddressBook(original);
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"ops\":[{\"op\":\"ins",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(buildStudent("George Best", "94824420"));
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, readJournal(filePath).size());
+        assertTrue(Files.readString(filePath).contains("George Best"));
+    }
+
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FORMAT_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    private static InputStream streamOf(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, 1, "Alice Pauline"), () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FORMAT_FILE));
+    }
+
+    @Test
+    public void read_unknownAndMissingFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(streamOf("{ \"version\": { \"major\": 1 } }")));
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(streamOf("{ \"persons\": null }")));
+    }
+
+    @Test
+    public void read_stream_leftOpen() throws Exception {
+        boolean[] isClosed = {false};
+        InputStream in = new ByteArrayInputStream("{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                isClosed[0] = true;
+            }
+        };
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(in));
+        assertFalse(isClosed[0]);
+    }
+
+    @Test
+    public void read_malformedStructure_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(streamOf("[]")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(streamOf("{ \"persons\": {} }")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(streamOf("{ \"persons\": [ {")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(streamOf("")));
+    }
+
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,46 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_atomicSave_previousGenerationKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath)));
+
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(
+                JsonAddressBookStorage.getBackupFilePath(filePath)).readAddressBook().get()));
+        assertFalse(Files.exists(filePath.resolveSibling(
+                filePath.getFileName() + JsonAddressBookStorage.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void readAddressBook_atomicSaveDataFileCorrupted_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // Truncated data file, e.g. after a crash while writing it in place
+        String contents = Files.readString(filePath);
+        Files.writeString(filePath, contents.substring(0, contents.length() / 2));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+
+        // Data file missing, e.g. after a crash between moving it to the backup and replacing it
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook buildAddressBookWithAttendance() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Person student = new PersonBuilder().withName("Zara Lim").withPhone("91234567")
+                .withBirthday(TestDateUtil.getValidStudentBirthday()).withTags("student").withFavourite(true).build();
+        student.markAttendance(LocalDate.now(), AttendanceStatus.LATE);
+        addressBook.addPerson(student);
+        return addressBook;
+    }
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(null, testFolder.resolve("ab.json")));
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(new AddressBook(), (Path) null));
+    }
+
+    @Test
+    public void write_readBackWithStreamingReader_success() throws Exception {
+        AddressBook original = buildAddressBookWithAttendance();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(original, out);
+        assertEquals(original, JsonAddressBookReader.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void write_readBackWithAdaptedPersons_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = buildAddressBookWithAttendance();
+        JsonAddressBookWriter.write(original, filePath);
+
+        AddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(original, readBack);
+        Person student = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        assertEquals(AttendanceStatus.LATE, student.getAttendanceRecords().get(LocalDate.now()));
+    }
+
+    @Test
+    public void write_existingLongerFile_truncated() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookWriter.write(buildAddressBookWithAttendance(), filePath);
+        JsonAddressBookWriter.write(new AddressBook(), filePath);
+        assertEquals("{\"persons\":[]}", Files.readString(filePath));
+        assertFalse(JsonAddressBookReader.read(filePath).getPersonList().iterator().hasNext());
+    }
+
+}
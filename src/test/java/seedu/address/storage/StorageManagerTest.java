@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -60,6 +62,39 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(original);
+        writeBehindStorageManager.flush();
+        ReadOnlyAddressBook retrieved = writeBehindStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertFalse(writeBehindStorageManager.pollSaveFailure().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_unmodifiedSinceLastSave_skipped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        long bytesWritten = storageManager.getBytesWritten();
+        assertTrue(bytesWritten > 0);
+
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(bytesWritten, storageManager.getBytesWritten());
+
+        // An equal but different address book is saved
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        assertTrue(storageManager.getBytesWritten() > bytesWritten);
+
+        bytesWritten = storageManager.getBytesWritten();
+        addressBook.updateFavourite(addressBook.getPersonList().get(0), true);
+        storageManager.saveAddressBook(addressBook);
+        assertTrue(storageManager.getBytesWritten() > bytesWritten);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestDateUtil;
+import seedu.address.testutil.TypicalPersons;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * A storage that counts its saves, and fails them while {@code failure} is set.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount = 0;
+        private IOException failure;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Test
+    public void flush_burstOfSubmits_writtenOnce() throws Exception {
+        CountingAddressBookStorage storage = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+
+        saver.submit(addressBook);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        saver.submit(addressBook);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        saver.submit(addressBook);
+        saver.flush();
+
+        assertEquals(1, storage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        // Nothing pending, so nothing more is written
+        saver.flush();
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void submit_changesAfterSubmit_notInSnapshot() throws Exception {
+        CountingAddressBookStorage storage = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        Person student = new PersonBuilder().withBirthday(TestDateUtil.getValidStudentBirthday())
+                .withTags("student").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(student);
+
+        saver.submit(addressBook);
+        student.markAttendance(LocalDate.now(), AttendanceStatus.PRESENT);
+        student.updateFavourite(true);
+        saver.flush();
+
+        Person savedStudent = storage.readAddressBook().get().getPersonList().get(0);
+        assertNull(savedStudent.getAttendanceRecords().get(LocalDate.now()));
+        assertFalse(savedStudent.getIsFavBoolean());
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnce() throws Exception {
+        CountingAddressBookStorage storage = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        storage.failure = new IOException("disk full");
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+
+        saver.submit(TypicalPersons.getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertFalse(saver.pollFailure().isPresent());
+        saver.flush();
+    }
+
+}